@@ -0,0 +1,55 @@
+package com.fastcampus.fastcampusprojectboard.benchmark;
+
+import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+import com.fastcampus.fastcampusprojectboard.domain.UserAccount;
+import com.fastcampus.fastcampusprojectboard.dto.ArticleDto;
+import com.fastcampus.fastcampusprojectboard.dto.response.ArticleResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.stream.IntStream;
+
+/**
+ * 게시글 목록 한 줄마다 일어나는 엔티티 -> DTO -> 응답 변환 비용.
+ */
+@State(Scope.Benchmark)
+public class ArticleMappingBenchmark {
+
+    @Param({"0", "5", "30"})
+    private int hashtagCount;
+
+    private Article article;
+    private ArticleDto articleDto;
+
+    @Setup
+    public void setUp() {
+        article = Article.of(UserAccount.of("uno", "pw", "uno@mail.com", "Uno", null), "title", "content");
+        ReflectionTestUtils.setField(article, "id", 1L);
+        IntStream.range(0, hashtagCount).forEach(i -> {
+            Hashtag hashtag = Hashtag.of("tag" + i);
+            ReflectionTestUtils.setField(hashtag, "id", (long) i);
+            article.addHashtag(hashtag);
+        });
+        articleDto = ArticleDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleDto articleDtoFrom() {
+        return ArticleDto.from(article);
+    }
+
+    @Benchmark
+    public ArticleResponse articleResponseFrom() {
+        return ArticleResponse.from(articleDto);
+    }
+
+    @Benchmark
+    public ArticleResponse entityToResponse() {
+        return ArticleResponse.from(ArticleDto.from(article));
+    }
+}
@@ -0,0 +1,51 @@
+package com.fastcampus.fastcampusprojectboard.benchmark;
+
+import com.fastcampus.fastcampusprojectboard.dto.ArticleCommentDto;
+import com.fastcampus.fastcampusprojectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.fastcampusprojectboard.dto.UserAccountDto;
+import com.fastcampus.fastcampusprojectboard.dto.response.ArticleWithCommentsResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 게시글 상세 화면에서 댓글 트리를 만드는 {@code ArticleWithCommentsResponse.organizeChildComments} 의 댓글 수별 비용.
+ * 댓글의 약 70% 는 이미 있는 댓글에 단 대댓글이다.
+ */
+@State(Scope.Benchmark)
+public class CommentTreeBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int commentCount;
+
+    private ArticleWithCommentsDto article;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        UserAccountDto user = UserAccountDto.of("uno", "pw", "uno@mail.com", "Uno", null);
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+        Set<ArticleCommentDto> comments = new LinkedHashSet<>();
+        for (long id = 1; id <= commentCount; id++) {
+            Long parentCommentId = id > 1 && random.nextInt(10) < 7 ? random.nextLong(1, id) : null;
+            comments.add(ArticleCommentDto.of(id, 1L, user, parentCommentId, "댓글 " + id,
+                    base.plusMinutes(random.nextInt(100_000)), "uno", base, "uno"));
+        }
+
+        article = ArticleWithCommentsDto.of(1L, user, comments, "title", "content", Set.of(),
+                base, "uno", base, "uno");
+    }
+
+    @Benchmark
+    public ArticleWithCommentsResponse organizeChildComments() {
+        return ArticleWithCommentsResponse.from(article);
+    }
+}
@@ -0,0 +1,30 @@
+package com.fastcampus.fastcampusprojectboard.benchmark;
+
+import com.fastcampus.fastcampusprojectboard.dto.request.ArticleCommentRequest;
+import com.fastcampus.fastcampusprojectboard.dto.request.ArticleRequest;
+import com.fastcampus.fastcampusprojectboard.util.FormDataEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 폼 요청(application/x-www-form-urlencoded) 본문을 만드는 비용. 컨트롤러 테스트의 {@link FormDataEncoder} 를 그대로 쓴다.
+ */
+@State(Scope.Benchmark)
+public class FormEncodingBenchmark {
+
+    private final FormDataEncoder formDataEncoder = new FormDataEncoder(new ObjectMapper());
+    private final ArticleRequest articleRequest = ArticleRequest.of("새 글 제목", "본문입니다. ".repeat(100) + "#java #spring");
+    private final ArticleCommentRequest articleCommentRequest = ArticleCommentRequest.of(1L, 2L, "대댓글입니다");
+
+    @Benchmark
+    public String encodeArticleRequest() {
+        return formDataEncoder.encode(articleRequest);
+    }
+
+    @Benchmark
+    public String encodeArticleCommentRequest() {
+        return formDataEncoder.encode(articleCommentRequest);
+    }
+}
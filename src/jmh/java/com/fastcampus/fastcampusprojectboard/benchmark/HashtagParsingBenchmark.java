@@ -0,0 +1,39 @@
+package com.fastcampus.fastcampusprojectboard.benchmark;
+
+import com.fastcampus.fastcampusprojectboard.service.HashtagService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Set;
+
+/**
+ * 게시글 저장/수정마다 실행되는 {@link HashtagService#parseHashtagNames(String)} 의 본문 길이별 비용.
+ */
+@State(Scope.Benchmark)
+public class HashtagParsingBenchmark {
+
+    @Param({"short", "long", "manyTags"})
+    private String contentType;
+
+    private HashtagService hashtagService;
+    private String content;
+
+    @Setup
+    public void setUp() {
+        hashtagService = new HashtagService(null, null, null); // 파싱은 저장소를 쓰지 않는다
+        content = switch (contentType) {
+            case "short" -> "오늘 배운 것 #java #spring";
+            case "long" -> "아주 긴 본문입니다. ".repeat(500) + "#java #spring #부트";
+            case "manyTags" -> "태그가 많은 글 " + "#java #spring #jpa #querydsl #thymeleaf ".repeat(40);
+            default -> throw new IllegalArgumentException(contentType);
+        };
+    }
+
+    @Benchmark
+    public Set<String> parseHashtagNames() {
+        return hashtagService.parseHashtagNames(content);
+    }
+}
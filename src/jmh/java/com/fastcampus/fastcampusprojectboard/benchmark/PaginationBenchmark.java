@@ -0,0 +1,26 @@
+package com.fastcampus.fastcampusprojectboard.benchmark;
+
+import com.fastcampus.fastcampusprojectboard.service.PaginationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class PaginationBenchmark {
+
+    @Param({"0", "5000"})
+    private int currentPageNumber;
+
+    @Param({"3", "10000"})
+    private int totalPages;
+
+    private final PaginationService paginationService = new PaginationService();
+
+    @Benchmark
+    public List<Integer> getPaginationBarNumbers() {
+        return paginationService.getPaginationBarNumbers(currentPageNumber, totalPages);
+    }
+}
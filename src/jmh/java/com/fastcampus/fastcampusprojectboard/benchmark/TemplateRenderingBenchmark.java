@@ -0,0 +1,171 @@
+package com.fastcampus.fastcampusprojectboard.benchmark;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.FormStatus;
+import com.fastcampus.fastcampusprojectboard.domain.constant.SearchType;
+import com.fastcampus.fastcampusprojectboard.dto.response.ArticleCommentResponse;
+import com.fastcampus.fastcampusprojectboard.dto.response.ArticleResponse;
+import com.fastcampus.fastcampusprojectboard.dto.response.ArticleWithCommentsResponse;
+import com.fastcampus.fastcampusprojectboard.dto.security.BoardPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.access.expression.DefaultWebSecurityExpressionHandler;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.context.support.GenericWebApplicationContext;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.extras.springsecurity6.dialect.SpringSecurityDialect;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.spring6.templateresolver.SpringResourceTemplateResolver;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 게시판 화면(HTML + .th.xml 병합 템플릿)의 화면별 렌더링 비용. 할당량은 gc 프로파일러로 같이 본다.
+ * <p>
+ * {@code templateCache=false} 는 매번 HTML 과 로직 파일을 다시 읽고 합쳐서 파싱하는 비용(핫 리로드 모드)을 포함한다.
+ * 모델은 운영 화면과 비슷하게 채운다: 목록 10건, 해시태그 3개씩, 댓글 30개(약 70% 대댓글), 로그인한 사용자.
+ */
+@State(Scope.Benchmark)
+public class TemplateRenderingBenchmark {
+
+    @Param({"articles/index", "articles/detail", "articles/search-hashtag", "articles/form"})
+    private String view;
+
+    @Param({"true", "false"})
+    private boolean templateCache;
+
+    private SpringTemplateEngine templateEngine;
+    private GenericWebApplicationContext applicationContext;
+    private WebContext context;
+
+    @Setup
+    public void setUp() {
+        MockServletContext servletContext = new MockServletContext();
+        applicationContext = new GenericWebApplicationContext(servletContext);
+        applicationContext.registerBean(DefaultWebSecurityExpressionHandler.class); // sec:authorize 가 찾는다
+        applicationContext.refresh();
+        servletContext.setAttribute(WebApplicationContext.ROOT_WEB_APPLICATION_CONTEXT_ATTRIBUTE, applicationContext);
+
+        SpringResourceTemplateResolver templateResolver = new SpringResourceTemplateResolver();
+        templateResolver.setApplicationContext(applicationContext);
+        templateResolver.setPrefix("classpath:/templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setUseDecoupledLogic(true);
+        templateResolver.setCacheable(templateCache);
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.addDialect(new SpringSecurityDialect());
+
+        // JMH 는 @Setup 과 @Benchmark 를 다른 스레드에서 돌릴 수 있다
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        BoardPrincipal principal = BoardPrincipal.of("uno", "pw", "uno@mail.com", "Uno", null);
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/" + view);
+        context = new WebContext(
+                JakartaServletWebApplication.buildApplication(servletContext).buildExchange(request, new MockHttpServletResponse()),
+                Locale.KOREA,
+                model(view)
+        );
+
+        templateEngine.process(view, context); // 캐시를 켠 경우 첫 파싱은 측정에서 뺀다
+    }
+
+    @TearDown
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public String render() {
+        return templateEngine.process(view, context);
+    }
+
+    private static Map<String, Object> model(String view) {
+        LocalDateTime base = LocalDateTime.of(2024, 1, 1, 0, 0);
+        List<ArticleResponse> articles = IntStream.rangeClosed(1, 10)
+                .mapToObj(i -> ArticleResponse.of((long) i, "게시글 제목 " + i, "본문 ".repeat(50),
+                        Set.of("spring", "java", "tag" + i), base.plusHours(i), "uno@mail.com", "Uno"))
+                .toList();
+        PageImpl<ArticleResponse> page = new PageImpl<>(articles, PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")), 1_000);
+
+        Map<String, Object> model = new HashMap<>();
+        switch (view) {
+            case "articles/index" -> {
+                model.put("articles", page);
+                model.put("paginationBarNumbers", List.of(0, 1, 2, 3, 4));
+                model.put("searchTypes", SearchType.values());
+                model.put("searchTypeHashtag", SearchType.HASHTAG);
+            }
+            case "articles/detail" -> {
+                ArticleWithCommentsResponse article = ArticleWithCommentsResponse.of(1L, "게시글 제목", "본문 ".repeat(200),
+                        Set.of("spring", "java", "thymeleaf"), base, "uno@mail.com", "Uno", "uno", comments(base));
+                model.put("article", article);
+                model.put("articleComments", article.articleCommentsResponse());
+                model.put("totalCount", 1_000L);
+                model.put("searchTypeHashtag", SearchType.HASHTAG);
+            }
+            case "articles/search-hashtag" -> {
+                model.put("articles", page);
+                model.put("hashtags", IntStream.range(0, 50).mapToObj(i -> "tag" + i).toList());
+                model.put("paginationBarNumbers", List.of(0, 1, 2, 3, 4));
+                model.put("searchType", SearchType.HASHTAG);
+            }
+            case "articles/form" -> {
+                model.put("article", articles.get(0));
+                model.put("formStatus", FormStatus.UPDATE);
+            }
+            default -> throw new IllegalArgumentException(view);
+        }
+        return model;
+    }
+
+    private static Set<ArticleCommentResponse> comments(LocalDateTime base) {
+        SplittableRandom random = new SplittableRandom(42);
+        Map<Long, ArticleCommentResponse> byId = new HashMap<>();
+        Set<ArticleCommentResponse> parents = new LinkedHashSet<>();
+        for (long id = 1; id <= 30; id++) {
+            String userId = random.nextBoolean() ? "uno" : "other";
+            Long parentCommentId = id > 1 && random.nextInt(10) < 7 ? random.nextLong(1, id) : null;
+            if (parentCommentId != null && byId.get(parentCommentId).parentCommentId() != null) {
+                parentCommentId = byId.get(parentCommentId).parentCommentId(); // 화면은 2단계까지만 그린다
+            }
+
+            ArticleCommentResponse comment = ArticleCommentResponse.of(id, "댓글 " + id, base.plusMinutes(id),
+                    userId + "@mail.com", userId, userId, parentCommentId);
+            byId.put(id, comment);
+            if (parentCommentId == null) {
+                parents.add(comment);
+            } else {
+                byId.get(parentCommentId).childComments().add(comment);
+            }
+        }
+        return parents;
+    }
+}
@@ -0,0 +1,79 @@
+package com.fastcampus.fastcampusprojectboard.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트 하나의 응답 시간 기록. 가상 유저 스레드마다 따로 기록하고 끝난 뒤 {@link #merge(EndpointStats)} 로 합친다.
+ */
+final class EndpointStats {
+
+    private final String name;
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+    private final LongAdder errors = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    String name() {
+        return name;
+    }
+
+    void record(long latencyNanos) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+    }
+
+    void error() {
+        errors.increment();
+    }
+
+    void merge(EndpointStats other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.latenciesNanos[i]);
+        }
+        errors.add(other.errors.sum());
+    }
+
+    Summary summarize(Duration elapsed) {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        double seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        return new Summary(
+                name,
+                count,
+                errors.sum(),
+                count / seconds,
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.99),
+                sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0
+        );
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    record Summary(String endpoint, long requests, long errors, double throughput, double p50Millis, double p99Millis, double maxMillis) {
+
+        String toRow() {
+            return String.format("%-22s %9d %7d %10.1f %9.2f %9.2f %9.2f",
+                    endpoint, requests, errors, throughput, p50Millis, p99Millis, maxMillis);
+        }
+
+        String toJson() {
+            return String.format(
+                    "{\"endpoint\":\"%s\",\"requests\":%d,\"errors\":%d,\"throughput\":%.2f,\"p50Millis\":%.3f,\"p99Millis\":%.3f,\"maxMillis\":%.3f}",
+                    endpoint, requests, errors, throughput, p50Millis, p99Millis, maxMillis);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.fastcampus.fastcampusprojectboard.loadtest;
+
+import com.fastcampus.fastcampusprojectboard.FastcampusProjectBoardApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 종단 간 HTTP 부하 테스트 진입점. {@code ./gradlew loadTest} 로 실행한다.
+ * <ol>
+ *     <li>loadtest 프로파일(파일 기반 H2)로 앱을 임의 포트에 띄운다.</li>
+ *     <li>합성 데이터가 없거나 설정과 다르면 새로 만든다.</li>
+ *     <li>가상 유저로 워크로드를 돌리고 엔드포인트별 처리량, p50/p99, 에러 수를 표와 JSON 으로 남긴다.</li>
+ * </ol>
+ * {@code -Dloadtest.baseUrl} 을 주면 앱을 띄우지 않고 이미 떠 있는 서버(같은 합성 데이터가 들어 있어야 함)를 대상으로 한다.
+ */
+@Slf4j
+public final class LoadTestMain {
+
+    private LoadTestMain() {}
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        String baseUrl = System.getProperty("loadtest.baseUrl");
+
+        ConfigurableApplicationContext context = null;
+        if (baseUrl == null) {
+            Files.createDirectories(settings.dbPath().getParent());
+            context = new SpringApplicationBuilder(FastcampusProjectBoardApplication.class)
+                    .profiles(settings.profiles())
+                    .properties("board.loadtest.db-path=" + settings.dbPath())
+                    .run(args);
+            new SyntheticDataGenerator(
+                    context.getBean(JdbcTemplate.class),
+                    context.getBean(TransactionTemplate.class),
+                    settings
+            ).generateIfNeeded();
+            baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+        }
+
+        try {
+            log.info("부하 테스트 시작 - 대상: {}, 스레드 모드: {}, 가상 유저: {}, 워밍업: {}, 측정: {}",
+                    baseUrl, settings.threadMode(), settings.virtualUsers(), settings.warmup(), settings.duration());
+            Map<String, EndpointStats> results = new WorkloadRunner(baseUrl, settings).run();
+            report(settings, results);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static void report(LoadTestSettings settings, Map<String, EndpointStats> results) throws IOException {
+        Duration measured = settings.duration();
+        List<EndpointStats.Summary> summaries = results.values().stream()
+                .map(stats -> stats.summarize(measured))
+                .toList();
+
+        StringBuilder table = new StringBuilder()
+                .append(String.format("%-22s %9s %7s %10s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50(ms)", "p99(ms)", "max(ms)"));
+        summaries.forEach(summary -> table.append(summary.toRow()).append(System.lineSeparator()));
+        System.out.println(table);
+
+        String json = summaries.stream()
+                .map(EndpointStats.Summary::toJson)
+                .collect(Collectors.joining(",\n  ", "{\"threadMode\":\"" + settings.threadMode() + "\""
+                        + ",\"virtualUsers\":" + settings.virtualUsers()
+                        + ",\"articles\":" + settings.articles()
+                        + ",\"durationSeconds\":" + measured.toSeconds()
+                        + ",\"results\":[\n  ", "\n]}\n"));
+
+        Files.createDirectories(settings.reportDir());
+        String fileName = "loadtest-" + settings.threadMode() + "-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json";
+        Files.writeString(settings.reportDir().resolve(fileName), json);
+        log.info("부하 테스트 결과 저장 - {}", settings.reportDir().resolve(fileName));
+    }
+}
@@ -0,0 +1,46 @@
+package com.fastcampus.fastcampusprojectboard.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 부하 테스트 설정. 모두 {@code -Dloadtest.*} 시스템 프로퍼티로 바꿀 수 있다. (build.gradle 의 loadTest 태스크 참조)
+ */
+record LoadTestSettings(
+        String[] profiles,
+        Path dbPath,
+        boolean regenerate,
+        int users,
+        int articles,
+        int hashtags,
+        int maxCommentsPerArticle,
+        int virtualUsers,
+        Duration warmup,
+        Duration duration,
+        Path reportDir
+) {
+
+    /**
+     * 결과 파일 이름과 리포트에 남길 스레드 모드. 플랫폼 스레드 모드와 가상 스레드 모드의 결과를 나란히 비교할 때 쓴다.
+     */
+    String threadMode() {
+        return List.of(profiles).contains("virtual-threads") ? "virtual" : "platform";
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("loadtest.profiles", "loadtest").split(","),
+                Path.of(System.getProperty("loadtest.dbPath", "build/loadtest/board")).toAbsolutePath(),
+                Boolean.getBoolean("loadtest.regenerate"),
+                Integer.getInteger("loadtest.users", 10_000),
+                Integer.getInteger("loadtest.articles", 1_000_000),
+                Integer.getInteger("loadtest.hashtags", 5_000),
+                Integer.getInteger("loadtest.maxCommentsPerArticle", 200),
+                Integer.getInteger("loadtest.virtualUsers", 64),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT60S")),
+                Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest")).toAbsolutePath()
+        );
+    }
+}
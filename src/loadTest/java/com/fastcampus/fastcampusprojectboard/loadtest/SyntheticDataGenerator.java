@@ -0,0 +1,206 @@
+package com.fastcampus.fastcampusprojectboard.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 합성 데이터 생성기.
+ * 유저/게시글/해시태그/댓글을 JDBC 배치로 직접 넣는다. 작성자와 해시태그는 Zipf 분포로 쏠리게 하고,
+ * 댓글은 일부 게시글에 몰리면서 대댓글로 깊게 이어지도록 만든다. 시드가 고정이라 같은 설정이면 항상 같은 데이터가 나온다.
+ */
+@Slf4j
+final class SyntheticDataGenerator {
+
+    static final String PASSWORD = "loadtest1234";
+    static final String USER_ID_PREFIX = "load-user-";
+
+    private static final int BATCH_SIZE = 1_000;
+    private static final long SEED = 20231018L;
+    private static final String[] WORDS = {
+            "lorem", "ipsum", "dolor", "sit", "amet", "spring", "board", "article", "comment", "hashtag",
+            "java", "query", "cache", "index", "thread", "latency", "page", "search", "server", "client"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final LoadTestSettings settings;
+    private final SplittableRandom random = new SplittableRandom(SEED);
+
+    SyntheticDataGenerator(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, LoadTestSettings settings) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.settings = settings;
+    }
+
+    /**
+     * 게시글 수가 설정과 같으면 기존 데이터를 재사용한다. {@code regenerate} 이거나 수가 다르면 전부 지우고 다시 만든다.
+     */
+    void generateIfNeeded() {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from article", Long.class);
+        if (!settings.regenerate() && existing != null && existing == settings.articles()) {
+            log.info("기존 합성 데이터 재사용 - 게시글 {}건", existing);
+            return;
+        }
+
+        long started = System.nanoTime();
+        truncate();
+        insertUsers();
+        insertHashtags();
+        insertArticles();
+        restartIdentities();
+        log.info("합성 데이터 생성 완료 - 유저 {}, 게시글 {}, 해시태그 {}, 소요 {}s",
+                settings.users(), settings.articles(), settings.hashtags(), (System.nanoTime() - started) / 1_000_000_000);
+    }
+
+    // 외래 키를 따라 자식 테이블부터 지운다. 보관 테이블과 이전 실행의 변경 이벤트, 멱등 키도 남기지 않는다
+    private void truncate() {
+        for (String table : List.of(
+                "outbox_event", "outbox_offset", "idempotency_record",
+                "article_hashtag_archive", "article_comment_archive", "article_archive",
+                "article_hashtag", "article_comment", "article", "hashtag", "user_account"
+        )) {
+            jdbcTemplate.execute("delete from " + table);
+        }
+    }
+
+    private void insertUsers() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        for (int i = 1; i <= settings.users(); i++) {
+            String userId = USER_ID_PREFIX + i;
+            rows.add(new Object[]{userId, "{noop}" + PASSWORD, "User" + i, userId + "@mail.com", null, now, userId, now, userId});
+            rows = flushIfFull(rows, """
+                    insert into user_account (user_id, user_password, nickname, email, memo, created_at, created_by, modified_at, modified_by)
+                    values (?, ?, ?, ?, ?, ?, ?, ?, ?)""");
+        }
+        flush(rows, """
+                insert into user_account (user_id, user_password, nickname, email, memo, created_at, created_by, modified_at, modified_by)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?)""");
+    }
+
+    private void insertHashtags() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+        String sql = "insert into hashtag (id, hashtag_name, created_at, created_by, modified_at, modified_by) values (?, ?, ?, ?, ?, ?)";
+        for (int i = 1; i <= settings.hashtags(); i++) {
+            rows.add(new Object[]{(long) i, hashtagName(i), now, "loadtest", now, "loadtest"});
+            rows = flushIfFull(rows, sql);
+        }
+        flush(rows, sql);
+    }
+
+    private void insertArticles() {
+        ZipfDistribution authors = new ZipfDistribution(settings.users(), 1.1);
+        ZipfDistribution hashtags = new ZipfDistribution(settings.hashtags(), 1.0);
+        ZipfDistribution commentHeat = new ZipfDistribution(settings.maxCommentsPerArticle(), 1.3);
+
+        String articleSql = """
+                insert into article (id, user_id, title, content, created_at, created_by, modified_at, modified_by)
+                values (?, ?, ?, ?, ?, ?, ?, ?)""";
+        String hashtagSql = "insert into article_hashtag (article_id, hashtag_id) values (?, ?)";
+        String commentSql = """
+                insert into article_comment (id, article_id, user_id, parent_comment_id, content, created_at, created_by, modified_at, modified_by)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+        List<Object[]> articles = new ArrayList<>(BATCH_SIZE);
+        List<Object[]> articleHashtags = new ArrayList<>(BATCH_SIZE * 2);
+        List<Object[]> comments = new ArrayList<>(BATCH_SIZE * 4);
+        LocalDateTime base = LocalDateTime.now().minusYears(2);
+        long commentId = 0;
+
+        for (long articleId = 1; articleId <= settings.articles(); articleId++) {
+            String userId = USER_ID_PREFIX + authors.sample(random);
+            Timestamp createdAt = Timestamp.valueOf(base.plusMinutes(articleId));
+
+            Set<Integer> tags = new LinkedHashSet<>();
+            int tagCount = random.nextInt(4);
+            for (int t = 0; t < tagCount; t++) {
+                tags.add(hashtags.sample(random));
+            }
+            StringBuilder content = new StringBuilder(sentence(40));
+            tags.forEach(tag -> content.append(" #").append(hashtagName(tag)));
+
+            articles.add(new Object[]{articleId, userId, sentence(6), content.toString(), createdAt, userId, createdAt, userId});
+            for (Integer tag : tags) {
+                articleHashtags.add(new Object[]{articleId, (long) tag});
+            }
+
+            // 대부분의 게시글은 댓글이 거의 없고, 소수의 게시글에 댓글이 몰린다
+            int commentCount = commentHeat.sample(random) - 1;
+            List<Long> thread = new ArrayList<>();
+            for (int c = 0; c < commentCount; c++) {
+                commentId++;
+                // 절반은 직전 댓글의 대댓글로 이어서 깊은 스레드를 만든다
+                Long parentId = !thread.isEmpty() && random.nextBoolean() ? thread.get(thread.size() - 1) : null;
+                String commenter = USER_ID_PREFIX + authors.sample(random);
+                comments.add(new Object[]{commentId, articleId, commenter, parentId, sentence(12), createdAt, commenter, createdAt, commenter});
+                thread.add(commentId);
+            }
+
+            if (articles.size() >= BATCH_SIZE) {
+                flushArticleBatch(articleSql, articles, hashtagSql, articleHashtags, commentSql, comments);
+                if (articleId % 100_000 == 0) {
+                    log.info("게시글 {}건 생성", articleId);
+                }
+            }
+        }
+        flushArticleBatch(articleSql, articles, hashtagSql, articleHashtags, commentSql, comments);
+    }
+
+    private void flushArticleBatch(String articleSql, List<Object[]> articles,
+                                   String hashtagSql, List<Object[]> articleHashtags,
+                                   String commentSql, List<Object[]> comments) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(articleSql, articles);
+            jdbcTemplate.batchUpdate(hashtagSql, articleHashtags);
+            jdbcTemplate.batchUpdate(commentSql, comments);
+        });
+        articles.clear();
+        articleHashtags.clear();
+        comments.clear();
+    }
+
+    private List<Object[]> flushIfFull(List<Object[]> rows, String sql) {
+        if (rows.size() < BATCH_SIZE) {
+            return rows;
+        }
+        flush(rows, sql);
+        return new ArrayList<>(BATCH_SIZE);
+    }
+
+    private void flush(List<Object[]> rows, String sql) {
+        if (!rows.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, rows));
+        }
+    }
+
+    // id 를 직접 넣었으므로 이후 앱이 insert 할 때 충돌하지 않도록 identity 시작값을 옮겨준다
+    private void restartIdentities() {
+        for (String table : List.of("article", "article_comment", "hashtag")) {
+            Long max = jdbcTemplate.queryForObject("select coalesce(max(id), 0) from " + table, Long.class);
+            jdbcTemplate.execute("alter table " + table + " alter column id restart with " + (max + 1));
+        }
+    }
+
+    private String sentence(int words) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) builder.append(' ');
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    static String hashtagName(int rank) {
+        return "tag" + rank;
+    }
+}
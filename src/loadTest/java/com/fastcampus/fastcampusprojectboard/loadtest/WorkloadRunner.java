@@ -0,0 +1,219 @@
+package com.fastcampus.fastcampusprojectboard.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 가상 유저가 실제 브라우저처럼 로그인 → 목록/상세/해시태그 검색 → 댓글 작성을 섞어서 요청한다.
+ * 각 가상 유저는 자기 HttpClient 와 쿠키(세션)를 가지며, 폼 요청마다 화면에서 CSRF 토큰을 긁어서 보낸다.
+ */
+@Slf4j
+final class WorkloadRunner {
+
+    private static final Pattern CSRF_TOKEN = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+
+    // 요청 비율 (합계 100). 읽기 위주의 실제 게시판 트래픽을 흉내낸다
+    private static final int LIST_WEIGHT = 40;
+    private static final int DETAIL_WEIGHT = 35;
+    private static final int HASHTAG_WEIGHT = 15;
+
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+    private final ZipfDistribution articlePopularity;
+    private final ZipfDistribution hashtagPopularity;
+
+    WorkloadRunner(String baseUrl, LoadTestSettings settings) {
+        this.baseUrl = baseUrl;
+        this.settings = settings;
+        this.articlePopularity = new ZipfDistribution(settings.articles(), 1.0);
+        this.hashtagPopularity = new ZipfDistribution(settings.hashtags(), 1.0);
+    }
+
+    /**
+     * 워밍업 구간은 버리고 측정 구간의 결과만 엔드포인트별로 합쳐서 돌려준다.
+     */
+    Map<String, EndpointStats> run() throws InterruptedException {
+        long warmupEnds = System.nanoTime() + settings.warmup().toNanos();
+        long ends = warmupEnds + settings.duration().toNanos();
+
+        List<VirtualUser> users = new ArrayList<>(settings.virtualUsers());
+        for (int i = 0; i < settings.virtualUsers(); i++) {
+            users.add(new VirtualUser(i, warmupEnds, ends));
+        }
+
+        CountDownLatch done = new CountDownLatch(users.size());
+        ExecutorService executor = Executors.newFixedThreadPool(users.size());
+        try {
+            for (VirtualUser user : users) {
+                executor.execute(() -> {
+                    try {
+                        user.run();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+            done.await();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Map<String, EndpointStats> merged = new LinkedHashMap<>();
+        for (VirtualUser user : users) {
+            user.stats.forEach((name, stats) -> merged.computeIfAbsent(name, EndpointStats::new).merge(stats));
+        }
+        return merged;
+    }
+
+    private final class VirtualUser {
+
+        private final String userId;
+        private final long warmupEnds;
+        private final long ends;
+        private final SplittableRandom random;
+        private final HttpClient client;
+        private final Map<String, EndpointStats> stats = new LinkedHashMap<>();
+
+        VirtualUser(int index, long warmupEnds, long ends) {
+            this.userId = SyntheticDataGenerator.USER_ID_PREFIX + (index % settings.users() + 1);
+            this.warmupEnds = warmupEnds;
+            this.ends = ends;
+            this.random = new SplittableRandom(index);
+            this.client = HttpClient.newBuilder()
+                    .cookieHandler(new CookieManager())
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+        }
+
+        void run() {
+            try {
+                login();
+            } catch (IOException | InterruptedException e) {
+                log.warn("가상 유저 로그인 실패 - userId: {}", userId, e);
+                return;
+            }
+
+            while (System.nanoTime() < ends) {
+                int dice = random.nextInt(100);
+                try {
+                    if (dice < LIST_WEIGHT) {
+                        get("GET /articles", "/articles?page=" + random.nextInt(5));
+                    } else if (dice < LIST_WEIGHT + DETAIL_WEIGHT) {
+                        get("GET /articles/{id}", "/articles/" + articlePopularity.sample(random));
+                    } else if (dice < LIST_WEIGHT + DETAIL_WEIGHT + HASHTAG_WEIGHT) {
+                        String hashtag = SyntheticDataGenerator.hashtagName(hashtagPopularity.sample(random));
+                        get("GET /search-hashtag", "/articles/search-hashtag?searchValue=" + encode(hashtag));
+                    } else {
+                        postComment();
+                    }
+                } catch (IOException e) {
+                    statsFor("I/O error").error();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+
+        private void login() throws IOException, InterruptedException {
+            String loginPage = send(HttpRequest.newBuilder(uri("/login")).GET().build()).body();
+            HttpResponse<String> response = send(form("/login", Map.of(
+                    "username", userId,
+                    "password", SyntheticDataGenerator.PASSWORD,
+                    "_csrf", csrfToken(loginPage)
+            )));
+            String location = response.headers().firstValue("Location").orElse("");
+            if (response.statusCode() != 302 || location.contains("error")) {
+                throw new IOException("로그인 응답이 올바르지 않습니다 - status: " + response.statusCode() + ", location: " + location);
+            }
+        }
+
+        private String get(String endpoint, String path) throws IOException, InterruptedException {
+            return measure(endpoint, HttpRequest.newBuilder(uri(path)).GET().build(), 200);
+        }
+
+        // 상세 화면에서 CSRF 토큰을 얻은 뒤 댓글을 단다. 상세 화면 요청도 같이 측정한다
+        private void postComment() throws IOException, InterruptedException {
+            long articleId = articlePopularity.sample(random);
+            String detail = get("GET /articles/{id}", "/articles/" + articleId);
+            if (detail == null) {
+                return;
+            }
+            measure("POST /comments/new", form("/comments/new", Map.of(
+                    "articleId", String.valueOf(articleId),
+                    "content", "load test comment " + random.nextInt(),
+                    "_csrf", csrfToken(detail)
+            )), 302);
+        }
+
+        private String measure(String endpoint, HttpRequest request, int expectedStatus) throws IOException, InterruptedException {
+            long started = System.nanoTime();
+            HttpResponse<String> response = send(request);
+            long finished = System.nanoTime();
+
+            if (finished < warmupEnds) {
+                return response.statusCode() == expectedStatus ? response.body() : null;
+            }
+            EndpointStats endpointStats = statsFor(endpoint);
+            if (response.statusCode() != expectedStatus) {
+                endpointStats.error();
+                return null;
+            }
+            endpointStats.record(finished - started);
+            return response.body();
+        }
+
+        private EndpointStats statsFor(String endpoint) {
+            return stats.computeIfAbsent(endpoint, EndpointStats::new);
+        }
+
+        private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+    }
+
+    private HttpRequest form(String path, Map<String, String> fields) {
+        StringBuilder body = new StringBuilder();
+        fields.forEach((key, value) -> {
+            if (!body.isEmpty()) body.append('&');
+            body.append(encode(key)).append('=').append(encode(value));
+        });
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create(baseUrl + path);
+    }
+
+    private static String csrfToken(String html) {
+        Matcher matcher = CSRF_TOKEN.matcher(html);
+        return matcher.find() ? matcher.group(1) : "";
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
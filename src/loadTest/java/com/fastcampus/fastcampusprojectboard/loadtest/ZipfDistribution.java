@@ -0,0 +1,33 @@
+package com.fastcampus.fastcampusprojectboard.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 1..n 순위를 Zipf 분포로 뽑는다. 누적 분포를 미리 계산해 두고 이진 탐색한다.
+ * 인기 해시태그, 조회가 몰리는 게시글, 글을 많이 쓰는 유저처럼 쏠림이 있는 데이터를 흉내낸다.
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double exponent) {
+        cumulative = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    /**
+     * @return 1 부터 n 사이의 순위
+     */
+    int sample(SplittableRandom random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1;
+    }
+}
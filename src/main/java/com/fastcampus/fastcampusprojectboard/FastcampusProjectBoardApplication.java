@@ -3,13 +3,19 @@ package com.fastcampus.fastcampusprojectboard;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.ConfigurableApplicationContext;
 
 @ConfigurationPropertiesScan
 @SpringBootApplication
 public class FastcampusProjectBoardApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(FastcampusProjectBoardApplication.class, args);
+        ConfigurableApplicationContext applicationContext = SpringApplication.run(FastcampusProjectBoardApplication.class, args);
+
+        // CDS 아카이브 학습 실행과 기동 시간 측정(./gradlew startupTime -Paot)에서만 켠다. run() 은 readiness 가 ACCEPTING_TRAFFIC 이 된 뒤 돌아온다
+        if (applicationContext.getEnvironment().getProperty("board.startup.exit-after-ready", Boolean.class, false)) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
     }
 
 }
@@ -0,0 +1,34 @@
+package com.fastcampus.fastcampusprojectboard.config;
+
+import com.fastcampus.fastcampusprojectboard.service.ArticleImportService;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * {@code --board.import.path=articles.ndjson} 처럼 파일을 지정해서 띄우면, 기동 직후 게시글을 대량 등록한다.
+ */
+@Configuration
+public class ArticleImportConfig {
+
+    @ConditionalOnProperty("board.import.path")
+    @Bean
+    public ApplicationRunner articleImportRunner(
+            ArticleImportService articleImportService,
+            ArticleImportProperties articleImportProperties
+    ) {
+        return args -> articleImportService.importArticles(articleImportProperties.path(), articleImportProperties.batchSize());
+    }
+
+    @ConfigurationProperties("board.import")
+    public record ArticleImportProperties(
+            Path path,
+            @DefaultValue("1000") int batchSize
+    ) {
+    }
+}
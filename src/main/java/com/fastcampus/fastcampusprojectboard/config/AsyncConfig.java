@@ -0,0 +1,15 @@
+package com.fastcampus.fastcampusprojectboard.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * {@code @Async}, {@code @Scheduled} 활성화.
+ * 실행기는 기본적으로 스프링 부트 자동 설정(플랫폼 스레드 풀)을 쓰고, virtual-threads 프로파일에서는 가상 스레드 실행기로 바뀐다.
+ */
+@EnableAsync
+@EnableScheduling
+@Configuration
+public class AsyncConfig {
+}
@@ -1,17 +1,48 @@
 package com.fastcampus.fastcampusprojectboard.config;
 
 import com.fastcampus.fastcampusprojectboard.domain.UserAccount;
+import com.fastcampus.fastcampusprojectboard.web.ApiQueryCostGuardFilter;
+import com.fastcampus.fastcampusprojectboard.web.ApiQueryGuardProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.rest.RepositoryRestProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.rest.webmvc.config.RepositoryRestConfigurer;
 
+import java.util.Objects;
+
 @Configuration
 public class DataRestConfig {
 
+    // spring.data.rest.default-page-size, max-page-size 를 비워 두면 Spring Data REST 가 쓰는 값
+    private static final int DATA_REST_DEFAULT_PAGE_SIZE = 20;
+    private static final int DATA_REST_MAX_PAGE_SIZE = 1000;
+
     @Bean
     public RepositoryRestConfigurer repositoryRestConfigurer() {
         return RepositoryRestConfigurer.withConfig((config, cors) ->
                 config.exposeIdsFor(UserAccount.class)
         );
     }
+
+    @ConditionalOnProperty(name = "board.api.query-guard.enabled", matchIfMissing = true)
+    @Bean
+    public FilterRegistrationBean<ApiQueryCostGuardFilter> apiQueryCostGuardFilter(
+            RepositoryRestProperties repositoryRestProperties,
+            ApiQueryGuardProperties apiQueryGuardProperties
+    ) {
+        String basePath = repositoryRestProperties.getBasePath();
+        FilterRegistrationBean<ApiQueryCostGuardFilter> registration = new FilterRegistrationBean<>(
+                new ApiQueryCostGuardFilter(
+                        basePath,
+                        Objects.requireNonNullElse(repositoryRestProperties.getDefaultPageSize(), DATA_REST_DEFAULT_PAGE_SIZE),
+                        Objects.requireNonNullElse(repositoryRestProperties.getMaxPageSize(), DATA_REST_MAX_PAGE_SIZE),
+                        apiQueryGuardProperties
+                )
+        );
+        registration.addUrlPatterns(basePath + "/*");
+
+        return registration;
+    }
 }
@@ -0,0 +1,82 @@
+package com.fastcampus.fastcampusprojectboard.config;
+
+import com.fastcampus.fastcampusprojectboard.datasource.ReadYourWritesFilter;
+import com.fastcampus.fastcampusprojectboard.datasource.ReplicaDataSourceProperties;
+import com.fastcampus.fastcampusprojectboard.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@code board.datasource.replicas} 가 설정된 경우에만 주 DB/복제본 라우팅 DataSource 를 만든다.
+ * 설정이 없으면 스프링 부트 기본 DataSource 하나를 그대로 쓴다.
+ */
+@ConditionalOnProperty(prefix = "board.datasource.replicas[0]", name = "url")
+@Configuration
+public class DataSourceConfig {
+
+    @ConfigurationProperties("spring.datasource.hikari")
+    @Bean
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+
+        return dataSource;
+    }
+
+    // 복제본 풀은 빈으로 등록하지 않고 라우팅 DataSource 가 종료 시 직접 닫는다
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            HikariDataSource primaryDataSource,
+            ReplicaDataSourceProperties replicaDataSourceProperties
+    ) {
+        List<DataSource> replicas = new ArrayList<>();
+        List<ReplicaDataSourceProperties.Replica> replicaProperties = replicaDataSourceProperties.replicas();
+        for (int i = 0; i < replicaProperties.size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = replicaProperties.get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.url())
+                    .username(replica.username())
+                    .password(replica.password())
+                    .build();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+            dataSource.setReadOnly(true);
+            replicas.add(dataSource);
+        }
+
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    // JPA, JdbcTemplate 이 쓰는 DataSource. 커넥션을 실제로 쓸 때까지 미뤄서 readOnly 표시 이후에 라우팅되게 한다
+    @Primary
+    @Bean
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaDataSourceProperties replicaDataSourceProperties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(replicaDataSourceProperties)
+        );
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+
+        return registration;
+    }
+}
@@ -0,0 +1,28 @@
+package com.fastcampus.fastcampusprojectboard.config;
+
+import com.fastcampus.fastcampusprojectboard.metrics.RequestSqlStatisticsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청별 SQL 통계 필터.
+ * JDBC 문장/행을 세는 Hibernate 리스너는 슬라이스 테스트(@DataJpaTest)에서도 동작하도록
+ * application.yaml ({@code hibernate.session.events.auto}) 과 META-INF/services 로 등록한다.
+ * Hibernate 통계(2차 캐시/쿼리 캐시 hit, miss 등)는 스프링 부트의 HibernateMetricsAutoConfiguration 이 {@code hibernate.*} 메트릭으로 내보낸다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestSqlStatisticsFilter> requestSqlStatisticsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestSqlStatisticsFilter> registration = new FilterRegistrationBean<>(
+                new RequestSqlStatisticsFilter(meterRegistry)
+        );
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+
+        return registration;
+    }
+}
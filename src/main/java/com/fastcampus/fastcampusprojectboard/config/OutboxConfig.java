@@ -0,0 +1,56 @@
+package com.fastcampus.fastcampusprojectboard.config;
+
+import com.fastcampus.fastcampusprojectboard.outbox.ChangeEventListener;
+import com.fastcampus.fastcampusprojectboard.outbox.OutboxCaptureListener;
+import com.fastcampus.fastcampusprojectboard.outbox.OutboxProperties;
+import com.fastcampus.fastcampusprojectboard.outbox.OutboxRelay;
+import com.fastcampus.fastcampusprojectboard.outbox.SecondLevelCacheEvictingListener;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글, 댓글, 해시태그 변경 이벤트 outbox.
+ * JPA 변경은 {@link OutboxCaptureListener} 를 Hibernate 이벤트 리스너로 붙여서 잡고, {@link OutboxRelay} 가 소비자들에게 넘긴다.
+ */
+@ConditionalOnProperty(prefix = "board.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(OutboxProperties.class)
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    public OutboxCaptureListener outboxCaptureListener(EntityManagerFactory entityManagerFactory) {
+        OutboxCaptureListener listener = new OutboxCaptureListener();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+        registry.appendListeners(EventType.POST_DELETE, listener);
+
+        return listener;
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            OutboxJdbcRepository outboxJdbcRepository,
+            OutboxProperties outboxProperties,
+            ObjectProvider<ChangeEventListener> changeEventListeners,
+            TransactionTemplate transactionTemplate
+    ) {
+        return new OutboxRelay(outboxJdbcRepository, outboxProperties, changeEventListeners, transactionTemplate);
+    }
+
+    @Bean
+    public SecondLevelCacheEvictingListener secondLevelCacheEvictingListener(EntityManagerFactory entityManagerFactory) {
+        return new SecondLevelCacheEvictingListener(entityManagerFactory);
+    }
+}
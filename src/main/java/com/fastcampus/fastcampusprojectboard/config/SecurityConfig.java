@@ -4,13 +4,24 @@ import com.fastcampus.fastcampusprojectboard.dto.UserAccountDto;
 import com.fastcampus.fastcampusprojectboard.dto.security.BoardPrincipal;
 import com.fastcampus.fastcampusprojectboard.dto.security.KakaoOAuth2Response;
 import com.fastcampus.fastcampusprojectboard.repository.UserAccountRepository;
+import com.fastcampus.fastcampusprojectboard.security.BoardTokenProperties;
+import com.fastcampus.fastcampusprojectboard.security.BoardTokenSecurityContextRepository;
+import com.fastcampus.fastcampusprojectboard.security.BoardTokenService;
+import com.fastcampus.fastcampusprojectboard.security.BoundedPasswordEncoder;
+import com.fastcampus.fastcampusprojectboard.security.CookieOAuth2AuthorizationRequestRepository;
+import com.fastcampus.fastcampusprojectboard.security.PasswordHashingProperties;
 import com.fastcampus.fastcampusprojectboard.service.UserAccountService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.factory.PasswordEncoderFactories;
@@ -20,6 +31,8 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserService;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.savedrequest.CookieRequestCache;
 import org.springframework.security.web.servlet.util.matcher.MvcRequestMatcher;
 import org.springframework.web.servlet.handler.HandlerMappingIntrospector;
 
@@ -27,14 +40,17 @@ import java.util.UUID;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
+// 슬라이스 테스트(@WebMvcTest)에서는 @ConfigurationPropertiesScan 대상이 빠지므로 여기서도 등록한다
+@EnableConfigurationProperties({BoardTokenProperties.class, PasswordHashingProperties.class})
 @Configuration
 public class SecurityConfig {
 
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
-            OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService) throws Exception {
-        return http
+            OAuth2UserService<OAuth2UserRequest, OAuth2User> oAuth2UserService,
+            BoardTokenService boardTokenService) throws Exception {
+        http
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll()
                         .requestMatchers(
@@ -49,8 +65,27 @@ public class SecurityConfig {
                 .logout(logout -> logout.logoutSuccessUrl("/"))
                 .oauth2Login(oAuth -> oAuth
                         .userInfoEndpoint(userInfo -> userInfo
-                                .userService(oAuth2UserService)))
-                .build();
+                                .userService(oAuth2UserService)));
+
+        if (boardTokenService.properties().enabled()) {
+            applyStatelessTokenMode(http, boardTokenService);
+        }
+
+        return http.build();
+    }
+
+    // 세션 대신 서명된 쿠키로 인증 상태, 저장된 요청, CSRF 토큰, OAuth2 인가 요청을 주고받는다
+    private void applyStatelessTokenMode(HttpSecurity http, BoardTokenService boardTokenService) throws Exception {
+        http
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .securityContext(context -> context
+                        .securityContextRepository(new BoardTokenSecurityContextRepository(boardTokenService)))
+                .requestCache(cache -> cache.requestCache(new CookieRequestCache()))
+                .csrf(csrf -> csrf.csrfTokenRepository(new CookieCsrfTokenRepository()))
+                .logout(logout -> logout.deleteCookies(boardTokenService.properties().cookieName()))
+                .oauth2Login(oAuth -> oAuth
+                        .authorizationEndpoint(authorization -> authorization
+                                .authorizationRequestRepository(new CookieOAuth2AuthorizationRequestRepository(boardTokenService))));
     }
 
     @Bean
@@ -75,7 +110,6 @@ public class SecurityConfig {
             String registrationId = userRequest.getClientRegistration().getRegistrationId();
             String providerId = String.valueOf(kakaoResponse.id());
             String username = registrationId + "_" + providerId;
-            String dummyPassword = passwordEncoder.encode("{bcrypt}" + UUID.randomUUID());
 
             return userAccountService.searchUser(username)
                     .map(BoardPrincipal::from)
@@ -83,7 +117,7 @@ public class SecurityConfig {
                             BoardPrincipal.from(
                                     userAccountService.saveUser(
                                             username,
-                                            dummyPassword,
+                                            passwordEncoder.encode("{bcrypt}" + UUID.randomUUID()), // 신규 가입일 때만 bcrypt 비용을 치른다
                                             kakaoResponse.email(),
                                             kakaoResponse.nickname(),
                                             null
@@ -95,7 +129,14 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            PasswordHashingProperties passwordHashingProperties,
+            ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        return new BoundedPasswordEncoder(
+                PasswordEncoderFactories.createDelegatingPasswordEncoder(),
+                passwordHashingProperties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new)
+        );
     }
 }
@@ -0,0 +1,78 @@
+package com.fastcampus.fastcampusprojectboard.config;
+
+import com.fastcampus.fastcampusprojectboard.sqllog.SlowQueryEndpoint;
+import com.fastcampus.fastcampusprojectboard.sqllog.SlowQueryReport;
+import com.fastcampus.fastcampusprojectboard.sqllog.SqlLogListener;
+import com.fastcampus.fastcampusprojectboard.sqllog.SqlLogProperties;
+import com.fastcampus.fastcampusprojectboard.sqllog.SqlLogRingBuffer;
+import com.fastcampus.fastcampusprojectboard.sqllog.SqlLogWriter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * show-sql / BasicBinder trace 로그 대신 쓰는 표본 SQL 로그.
+ * {@code dataSource} 빈을 datasource-proxy 로 감싸서 JPA 와 JdbcTemplate 문장을 모두 본다.
+ * 복제본 라우팅(DataSourceConfig)을 쓰면 라우팅 앞단의 {@code dataSource} 만 감싸므로 문장이 두 번 잡히지 않는다.
+ */
+@ConditionalOnProperty(prefix = "board.sql-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(SqlLogProperties.class)
+@Configuration
+public class SqlLogConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlLogDataSourcePostProcessor(ObjectProvider<SqlLogListener> sqlLogListener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!"dataSource".equals(beanName) || !(bean instanceof DataSource dataSource)) {
+                    return bean;
+                }
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(sqlLogListener.getObject())
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public SqlLogRingBuffer sqlLogRingBuffer(SqlLogProperties properties) {
+        return new SqlLogRingBuffer(properties.bufferSize());
+    }
+
+    @Bean
+    public SqlLogListener sqlLogListener(SqlLogProperties properties, SqlLogRingBuffer sqlLogRingBuffer) {
+        return new SqlLogListener(properties, sqlLogRingBuffer);
+    }
+
+    @Bean
+    public SlowQueryReport slowQueryReport(SqlLogProperties properties) {
+        return new SlowQueryReport(properties.slowQueryCapacity());
+    }
+
+    @Bean
+    public SqlLogWriter sqlLogWriter(SqlLogRingBuffer sqlLogRingBuffer, SlowQueryReport slowQueryReport) {
+        return new SqlLogWriter(sqlLogRingBuffer, slowQueryReport);
+    }
+
+    @Bean
+    public SlowQueryEndpoint slowQueryEndpoint(SqlLogProperties properties, SqlLogRingBuffer sqlLogRingBuffer, SlowQueryReport slowQueryReport) {
+        return new SlowQueryEndpoint(properties, sqlLogRingBuffer, slowQueryReport);
+    }
+
+    @Bean
+    public MeterBinder sqlLogMetrics(SqlLogRingBuffer sqlLogRingBuffer) {
+        return registry -> FunctionCounter.builder("board.sql.log.dropped", sqlLogRingBuffer, SqlLogRingBuffer::dropped)
+                .description("링 버퍼가 차서 버린 SQL 로그 수")
+                .register(registry);
+    }
+}
@@ -0,0 +1,79 @@
+package com.fastcampus.fastcampusprojectboard.config;
+
+import com.fastcampus.fastcampusprojectboard.metrics.SqlBudgetFilter;
+import com.fastcampus.fastcampusprojectboard.metrics.SqlBudgetInterceptor;
+import com.fastcampus.fastcampusprojectboard.metrics.SqlBudgetProperties;
+import com.fastcampus.fastcampusprojectboard.ratelimit.RateLimitInterceptor;
+import com.fastcampus.fastcampusprojectboard.ratelimit.RateLimitProperties;
+import com.fastcampus.fastcampusprojectboard.ratelimit.RateLimiter;
+import com.fastcampus.fastcampusprojectboard.web.StreamingViewProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.web.WebProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+import org.springframework.web.servlet.resource.VersionResourceResolver;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+@RequiredArgsConstructor
+@EnableConfigurationProperties({SqlBudgetProperties.class, StreamingViewProperties.class, RateLimitProperties.class})
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final SqlBudgetProperties sqlBudgetProperties;
+    private final RateLimitProperties rateLimitProperties;
+    private final WebProperties webProperties;
+
+    // 한가한 버킷은 RateLimiter#evictIdleBuckets 가 주기적으로 치운다
+    @Bean
+    public RateLimiter rateLimiter() {
+        return new RateLimiter(rateLimitProperties);
+    }
+
+    // 인터셉터와 같은 설정에 두어야 MetricsConfig 를 읽지 않는 @WebMvcTest 슬라이스에서도 예산 초과가 테스트를 실패시킨다
+    @Bean
+    public FilterRegistrationBean<SqlBudgetFilter> sqlBudgetFilter() {
+        FilterRegistrationBean<SqlBudgetFilter> registration = new FilterRegistrationBean<>(new SqlBudgetFilter());
+        registration.setEnabled(sqlBudgetProperties.enabled());
+
+        return registration;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (rateLimitProperties.enabled()) {
+            registry.addInterceptor(new RateLimitInterceptor(rateLimitProperties, rateLimiter()));
+        }
+        if (sqlBudgetProperties.enabled()) {
+            registry.addInterceptor(new SqlBudgetInterceptor(sqlBudgetProperties));
+        }
+    }
+
+    /**
+     * css 는 내용 해시가 붙은 주소(/css/search-bar-{md5}.css)로 내보내고, 주소가 내용과 함께 바뀌므로 1년 immutable 로 캐시한다.
+     * 템플릿의 {@code @{/css/...}} 링크는 ResourceUrlEncodingFilter 가 해시 주소로 바꾼다 (spring.web.resources.chain.enabled).
+     * 빌드 때 만든 .br/.gz 압축본이 있으면 Accept-Encoding 에 맞춰 그것을 보낸다 (build.gradle 의 precompressStaticAssets).
+     */
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        WebProperties.Resources resources = webProperties.getResources();
+        String[] cssLocations = Arrays.stream(resources.getStaticLocations())
+                .map(location -> location + (location.endsWith("/") ? "" : "/") + "css/")
+                .toArray(String[]::new);
+
+        registry.addResourceHandler("/css/**")
+                .addResourceLocations(cssLocations)
+                .setCacheControl(CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable())
+                .resourceChain(resources.getChain().isCache())
+                .addResolver(new EncodedResourceResolver())
+                .addResolver(new VersionResourceResolver().addContentVersionStrategy("/**"));
+    }
+}
@@ -3,13 +3,16 @@ package com.fastcampus.fastcampusprojectboard.controller;
 import com.fastcampus.fastcampusprojectboard.dto.UserAccountDto;
 import com.fastcampus.fastcampusprojectboard.dto.request.ArticleCommentRequest;
 import com.fastcampus.fastcampusprojectboard.dto.security.BoardPrincipal;
+import com.fastcampus.fastcampusprojectboard.ratelimit.RateLimited;
 import com.fastcampus.fastcampusprojectboard.service.ArticleCommentService;
+import com.fastcampus.fastcampusprojectboard.service.IdempotencyService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 
 @RequiredArgsConstructor
 @RequestMapping("/comments")
@@ -17,16 +20,21 @@ import org.springframework.web.bind.annotation.RequestMapping;
 public class ArticleCommentController {
 
     private final ArticleCommentService articleCommentService;
+    private final IdempotencyService idempotencyService;
 
+    @RateLimited("comment-write")
     @PostMapping("/new")
     public String postNewArticleComment(ArticleCommentRequest articleCommentRequest,
+                                        @RequestParam(required = false) String idempotencyKey,
                                         @AuthenticationPrincipal BoardPrincipal boardPrincipal) {
 
-        articleCommentService.saveArticleComment(articleCommentRequest.toDto(boardPrincipal.toDto()));
-
-        return "redirect:/articles/" + articleCommentRequest.articleId();
+        return idempotencyService.execute(boardPrincipal.getUsername(), idempotencyKey, () -> {
+            articleCommentService.saveArticleComment(articleCommentRequest.toDto(boardPrincipal.toDto()));
+            return "redirect:/articles/" + articleCommentRequest.articleId();
+        });
     }
 
+    @RateLimited("comment-write")
     @PostMapping("/{commentId}/delete")
     public String deleteArticleComment(@PathVariable Long commentId,
                                        Long articleId,
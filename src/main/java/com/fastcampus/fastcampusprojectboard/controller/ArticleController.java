@@ -2,23 +2,37 @@ package com.fastcampus.fastcampusprojectboard.controller;
 
 import com.fastcampus.fastcampusprojectboard.domain.constant.FormStatus;
 import com.fastcampus.fastcampusprojectboard.domain.constant.SearchType;
+import com.fastcampus.fastcampusprojectboard.dto.ArticleDto;
 import com.fastcampus.fastcampusprojectboard.dto.request.ArticleRequest;
 import com.fastcampus.fastcampusprojectboard.dto.response.ArticleResponse;
 import com.fastcampus.fastcampusprojectboard.dto.response.ArticleWithCommentsResponse;
 import com.fastcampus.fastcampusprojectboard.dto.security.BoardPrincipal;
+import com.fastcampus.fastcampusprojectboard.metrics.SqlBudget;
+import com.fastcampus.fastcampusprojectboard.ratelimit.RateLimited;
 import com.fastcampus.fastcampusprojectboard.service.ArticleService;
+import com.fastcampus.fastcampusprojectboard.service.ArticleViewCountService;
+import com.fastcampus.fastcampusprojectboard.service.IdempotencyService;
 import com.fastcampus.fastcampusprojectboard.service.PaginationService;
+import com.fastcampus.fastcampusprojectboard.web.ChunkedPage;
+import com.fastcampus.fastcampusprojectboard.web.StreamingViewProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.web.csrf.CsrfToken;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.ModelMap;
 import org.springframework.web.bind.annotation.*;
+import org.thymeleaf.context.LazyContextVariable;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.function.LongSupplier;
 
 @RequiredArgsConstructor
 @RequestMapping("/articles")
@@ -27,27 +41,51 @@ public class ArticleController {
 
     private final ArticleService articleService;
     private final PaginationService paginationService;
+    private final ArticleViewCountService articleViewCountService;
+    private final IdempotencyService idempotencyService;
+    private final StreamingViewProperties streamingViewProperties;
 
+    @SqlBudget(5) // 목록 + count + 작성자/해시태그 배치 로딩
     @GetMapping
     public String articles(
             @RequestParam(required = false) SearchType searchType,
             @RequestParam(required = false) String searchValue,
+            @RequestParam(defaultValue = "false") boolean archived,
             @PageableDefault(size = 10, sort = "createdAt", direction = Direction.DESC) Pageable pageable,
+            HttpServletRequest request,
+            HttpServletResponse response,
             ModelMap map) {
-        Page<ArticleResponse> articles = articleService.searchArticles(searchType, searchValue, pageable).map(ArticleResponse::from);
-        List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
-
-        map.addAttribute("articles", articles);
-        map.addAttribute("paginationBarNumbers", barNumbers);
+        // 보관된 글 검색은 드물게 쓰므로 스트리밍 없이 한 페이지씩 읽는다
+        if (streamingViewProperties.enabled() && !archived) {
+            ChunkedPage<ArticleResponse> articles = streamingPage(request, response, pageable,
+                    (offset, limit) -> articleService.searchArticleChunk(searchType, searchValue, pageable.getSort(), offset, limit),
+                    () -> articleService.countArticles(searchType, searchValue));
+            map.addAttribute("articles", articles);
+            map.addAttribute("paginationBarNumbers", lazyPaginationBarNumbers(articles));
+        } else {
+            Page<ArticleDto> articleDtos = archived
+                    ? articleService.searchArchivedArticles(searchType, searchValue, pageable)
+                    : articleService.searchArticles(searchType, searchValue, pageable);
+            Page<ArticleResponse> articles = articleDtos.map(ArticleResponse::from);
+            List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+            map.addAttribute("articles", articles);
+            map.addAttribute("paginationBarNumbers", barNumbers);
+        }
         map.addAttribute("searchTypes", SearchType.values());
         map.addAttribute("searchTypeHashtag", SearchType.HASHTAG);
 
         return "articles/index";
     }
 
+    @SqlBudget(8) // 게시글 + 작성자 + 해시태그 + 댓글 + 댓글 작성자 + 전체 글 수 (보관된 글은 article 조회 한 번 더)
     @GetMapping("/{articleId}")
     public String article(@PathVariable Long articleId, ModelMap map) {
         ArticleWithCommentsResponse article = ArticleWithCommentsResponse.from(articleService.getArticleWithComments(articleId));
+        // 보관된 글의 조회수는 더 이상 세지 않는다 (article 에 행이 없어 반영할 곳이 없다)
+        if (!article.archived()) {
+            articleViewCountService.increment(articleId);
+            article = article.withViewCount(article.viewCount() + articleViewCountService.pendingViews(articleId));
+        }
 
         map.addAttribute("article", article);
         map.addAttribute("articleComments", article.articleCommentsResponse());
@@ -57,24 +95,36 @@ public class ArticleController {
         return "articles/detail";
     }
 
+    @SqlBudget(6) // 목록 + count + 작성자/해시태그 배치 로딩 + 해시태그 이름 목록
     @GetMapping("/search-hashtag")
     public String searchArticleHashtag(
             @RequestParam(required = false) String searchValue,
             @PageableDefault(size = 10, sort = "createdAt", direction = Direction.DESC) Pageable pageable,
+            HttpServletRequest request,
+            HttpServletResponse response,
             ModelMap map
     ) {
-        Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
-        List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
-        List<String> hashtags = articleService.getHashtags();
-
-        map.addAttribute("articles", articles);
-        map.addAttribute("hashtags", hashtags);
-        map.addAttribute("paginationBarNumbers", barNumbers);
+        if (streamingViewProperties.enabled()) {
+            ChunkedPage<ArticleResponse> articles = searchValue == null || searchValue.isBlank()
+                    ? ChunkedPage.empty(pageable)
+                    : streamingPage(request, response, pageable,
+                            (offset, limit) -> articleService.searchArticleChunk(SearchType.HASHTAG, searchValue, pageable.getSort(), offset, limit),
+                            () -> articleService.countArticles(SearchType.HASHTAG, searchValue));
+            map.addAttribute("articles", articles);
+            map.addAttribute("paginationBarNumbers", lazyPaginationBarNumbers(articles));
+        } else {
+            Page<ArticleResponse> articles = articleService.searchArticlesViaHashtag(searchValue, pageable).map(ArticleResponse::from);
+            List<Integer> barNumbers = paginationService.getPaginationBarNumbers(pageable.getPageNumber(), articles.getTotalPages());
+            map.addAttribute("articles", articles);
+            map.addAttribute("paginationBarNumbers", barNumbers);
+        }
+        map.addAttribute("hashtags", articleService.getHashtags());
         map.addAttribute("searchType", SearchType.HASHTAG);
 
         return "articles/search-hashtag";
     }
 
+    @SqlBudget(0)
     @GetMapping("/form")
     public String articleForm(ModelMap map) {
         map.addAttribute("formStatus", FormStatus.CREATE);
@@ -82,15 +132,20 @@ public class ArticleController {
         return "articles/form";
     }
 
+    @RateLimited("article-write")
+    @SqlBudget(12)
     @PostMapping("/form")
     public String postNewArticle(ArticleRequest articleRequest,
+                                 @RequestParam(required = false) String idempotencyKey,
                                  @AuthenticationPrincipal BoardPrincipal boardPrincipal) {
 
-        articleService.saveArticle(articleRequest.toDto(boardPrincipal.toDto()));
-
-        return "redirect:/articles";
+        return idempotencyService.execute(boardPrincipal.getUsername(), idempotencyKey, () -> {
+            articleService.saveArticle(articleRequest.toDto(boardPrincipal.toDto()));
+            return "redirect:/articles";
+        });
     }
 
+    @SqlBudget(4)
     @GetMapping("/{articleId}/form")
     public String updateArticleForm(@PathVariable Long articleId, ModelMap map) {
         ArticleResponse article = ArticleResponse.from(articleService.getArticle(articleId));
@@ -101,6 +156,8 @@ public class ArticleController {
         return "articles/form";
     }
 
+    @RateLimited("article-write")
+    @SqlBudget(12)
     @PostMapping("/{articleId}/form")
     public String updateArticle(@PathVariable Long articleId,
                                 ArticleRequest articleRequest,
@@ -111,6 +168,8 @@ public class ArticleController {
         return "redirect:/articles/" + articleId;
     }
 
+    @RateLimited("article-write")
+    @SqlBudget(12)
     @PostMapping("/{articleId}/delete")
     public String deleteArticle(@PathVariable Long articleId,
                                 @AuthenticationPrincipal BoardPrincipal boardPrincipal) {
@@ -119,4 +178,48 @@ public class ArticleController {
 
         return "redirect:/articles";
     }
+
+    /**
+     * 목록 행을 템플릿이 순회할 때 청크 단위로 읽는 페이지를 만든다.
+     * 청크를 읽기 전마다 지금까지 그린 HTML 을 flush 해서, 헤더는 DB 조회를 기다리지 않고 먼저 나간다.
+     */
+    private ChunkedPage<ArticleResponse> streamingPage(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            Pageable pageable,
+            ChunkedPage.ChunkLoader<ArticleDto> chunkLoader,
+            LongSupplier totalCounter
+    ) {
+        // 응답이 커밋된 뒤에는 세션을 만들 수 없으므로, 헤더의 로그아웃 폼이 쓸 CSRF 토큰을 미리 만들어 둔다
+        if (request.getAttribute(CsrfToken.class.getName()) instanceof CsrfToken csrfToken) {
+            csrfToken.getToken();
+        }
+        response.setBufferSize((int) streamingViewProperties.bufferSize().toBytes());
+
+        return new ChunkedPage<>(
+                pageable,
+                streamingViewProperties.chunkSize(),
+                (offset, limit) -> chunkLoader.load(offset, limit).stream().map(ArticleResponse::from).toList(),
+                totalCounter,
+                () -> flush(response)
+        );
+    }
+
+    // 페이지 바는 목록 뒤에 그려지므로, count 쿼리도 그때 실행된다
+    private LazyContextVariable<List<Integer>> lazyPaginationBarNumbers(ChunkedPage<?> articles) {
+        return new LazyContextVariable<>() {
+            @Override
+            protected List<Integer> loadValue() {
+                return paginationService.getPaginationBarNumbers(articles.getNumber(), articles.getTotalPages());
+            }
+        };
+    }
+
+    private static void flush(HttpServletResponse response) {
+        try {
+            response.flushBuffer();
+        } catch (IOException e) {
+            throw new UncheckedIOException("목록 스트리밍 중 응답을 보내지 못했습니다.", e);
+        }
+    }
 }
@@ -0,0 +1,33 @@
+package com.fastcampus.fastcampusprojectboard.controller;
+
+import com.fastcampus.fastcampusprojectboard.service.ArticleExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+
+@RequiredArgsConstructor
+@RequestMapping("/articles")
+@Controller
+public class ArticleExportController {
+
+    private static final String NDJSON = "application/x-ndjson";
+
+    private final ArticleExportService articleExportService;
+
+    // HAL 페이지를 만들지 않고 응답 스트림에 바로 쓴다
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportArticles(@RequestParam(defaultValue = "false") boolean includeComments,
+                               HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\"");
+
+        articleExportService.exportArticles(includeComments, response.getOutputStream());
+    }
+}
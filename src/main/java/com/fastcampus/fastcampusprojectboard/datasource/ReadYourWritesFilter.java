@@ -0,0 +1,75 @@
+package com.fastcampus.fastcampusprojectboard.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * 쓰기가 커밋되면 짧은 수명의 쿠키를 내려주고, 쿠키가 살아 있는 동안 그 사용자의 읽기를 주 DB 로 보낸다.
+ * 세션 방식과 토큰(stateless) 방식 모두에서 동작하도록 서버 세션 대신 쿠키를 쓴다.
+ * 쿠키를 위조해도 주 DB 로 읽게 될 뿐이라 서명하지 않는다. 다만 먼 미래 시각을 넣어 복제본을 영영 피하지 못하도록,
+ * 지금부터 read-your-writes-window 안쪽 시각만 받아들인다.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final String cookieName;
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(ReplicaDataSourceProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    ReadYourWritesFilter(ReplicaDataSourceProperties properties, Clock clock) {
+        this.cookieName = properties.stickyCookieName();
+        this.window = properties.readYourWritesWindow();
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ReplicaRoutingContext.begin(isPinned(request), () -> pin(response));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.end();
+        }
+    }
+
+    private boolean isPinned(HttpServletRequest request) {
+        if (request.getCookies() == null) {
+            return false;
+        }
+        for (Cookie cookie : request.getCookies()) {
+            if (cookieName.equals(cookie.getName())) {
+                try {
+                    long remaining = Long.parseLong(cookie.getValue()) - clock.millis();
+                    return remaining > 0 && remaining <= window.toMillis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    // 쓰기 트랜잭션은 핸들러 안에서 커밋되므로 아직 응답이 나가기 전이다
+    private void pin(HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(cookieName, String.valueOf(clock.millis() + window.toMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(window.toSeconds(), 1));
+        response.addCookie(cookie);
+    }
+}
@@ -0,0 +1,26 @@
+package com.fastcampus.fastcampusprojectboard.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 읽기 전용 복제본 설정. {@code replicas} 가 비어 있으면 라우팅 없이 {@code spring.datasource} 하나만 쓴다.
+ * <p>
+ * {@code readYourWritesWindow} 는 쓰기 직후 같은 사용자의 읽기를 주 DB 로 보내는 시간이다. 복제 지연보다 길게 잡는다.
+ */
+@ConfigurationProperties("board.datasource")
+public record ReplicaDataSourceProperties(
+        @DefaultValue List<Replica> replicas,
+        @DefaultValue("5s") Duration readYourWritesWindow,
+        @DefaultValue("BOARD_PRIMARY_UNTIL") String stickyCookieName
+) {
+    public record Replica(
+            String url,
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {}
+}
@@ -0,0 +1,54 @@
+package com.fastcampus.fastcampusprojectboard.datasource;
+
+/**
+ * 요청 단위 read-your-writes 상태.
+ * 요청 시작 시 {@link ReadYourWritesFilter} 가 이전 쓰기 여부(쿠키)로 초기화하고,
+ * 쓰기 트랜잭션이 커밋되면 {@link ReplicaRoutingDataSource} 가 {@link #writeCommitted()} 를 불러 남은 요청도 주 DB 로 고정한다.
+ * 요청 밖(배치, 스케줄러)에서는 상태가 없으므로 읽기 전용 트랜잭션은 항상 복제본으로 간다.
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<State> CURRENT = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {}
+
+    /**
+     * @param pinnedToPrimary 최근에 쓴 적이 있어서 읽기도 주 DB 로 보내야 하는지
+     * @param onFirstWrite    이 요청에서 처음 쓰기가 커밋됐을 때 실행할 콜백 (쿠키 발급)
+     */
+    public static void begin(boolean pinnedToPrimary, Runnable onFirstWrite) {
+        CURRENT.set(new State(pinnedToPrimary, onFirstWrite));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        State state = CURRENT.get();
+        return state != null && state.pinnedToPrimary;
+    }
+
+    static void writeCommitted() {
+        State state = CURRENT.get();
+        if (state == null) {
+            return;
+        }
+        state.pinnedToPrimary = true;
+        if (!state.written) {
+            state.written = true;
+            state.onFirstWrite.run();
+        }
+    }
+
+    private static final class State {
+        private boolean pinnedToPrimary;
+        private boolean written;
+        private final Runnable onFirstWrite;
+
+        private State(boolean pinnedToPrimary, Runnable onFirstWrite) {
+            this.pinnedToPrimary = pinnedToPrimary;
+            this.onFirstWrite = onFirstWrite;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.fastcampus.fastcampusprojectboard.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * {@code @Transactional(readOnly = true)} 트랜잭션은 복제본(여러 개면 라운드 로빈)으로, 나머지는 주 DB 로 보낸다.
+ * <p>
+ * 트랜잭션의 readOnly 여부는 커넥션을 실제로 쓸 때 정해지므로, 반드시 {@code LazyConnectionDataSourceProxy} 로 감싸서 써야 한다.
+ * 그렇지 않으면 JPA 트랜잭션 시작 시점(readOnly 표시 전)에 커넥션을 가져와서 항상 주 DB 로 간다.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final List<DataSource> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKey(i), replicas.get(i));
+        }
+
+        this.replicas = List.copyOf(replicas);
+        this.replicaKeys = IntStream.range(0, replicas.size())
+                .mapToObj(ReplicaRoutingDataSource::replicaKey)
+                .toList();
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!replicaKeys.isEmpty()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReplicaRoutingContext.isPinnedToPrimary()) {
+            return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ReplicaRoutingContext.writeCommitted();
+                }
+            });
+        }
+        return PRIMARY;
+    }
+
+    // 주 DB 는 스프링 빈으로 따로 관리되고, 복제본 풀은 여기서만 쓰므로 직접 닫는다
+    @Override
+    public void destroy() throws Exception {
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static String replicaKey(int index) {
+        return "replica-" + index;
+    }
+}
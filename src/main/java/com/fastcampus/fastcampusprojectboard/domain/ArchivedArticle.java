@@ -0,0 +1,68 @@
+package com.fastcampus.fastcampusprojectboard.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 보관 기간이 지나 article 에서 옮겨 온 게시글 (article_archive).
+ * ArticleArchiveJdbcRepository 가 댓글, article_hashtag 행과 함께 그대로 옮기므로 ID 도 원래 게시글 ID 다.
+ * 옮긴 뒤에는 고치지 않으니 읽기 전용으로 매핑한다.
+ */
+@Getter
+@ToString(callSuper = true)
+@Table(name = "article_archive", indexes = {
+        @Index(columnList = "title"),
+        @Index(columnList = "createdAt"),
+        @Index(columnList = "createdBy")
+})
+@Immutable
+@Entity
+public class ArchivedArticle extends AuditingFields {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "userId")
+    private UserAccount userAccount;
+
+    @Column(nullable = false) private String title;
+    @Column(nullable = false, length = 10000) private String content;
+    @Column(nullable = false) private long viewCount;
+    @Column(nullable = false) private LocalDateTime archivedAt;
+
+    @ToString.Exclude
+    @JoinTable(
+            name = "article_hashtag_archive",
+            joinColumns = @JoinColumn(name = "articleId"),
+            inverseJoinColumns = @JoinColumn(name = "hashtagId")
+    )
+    @ManyToMany
+    private Set<Hashtag> hashtags = new LinkedHashSet<>();
+
+    @OrderBy("createdAt DESC")
+    @OneToMany(mappedBy = "article")
+    @ToString.Exclude
+    private Set<ArchivedArticleComment> articleComments = new LinkedHashSet<>();
+
+    protected ArchivedArticle() {}
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArchivedArticle that)) return false;
+        return this.getId() != null && this.getId().equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getId());
+    }
+}
@@ -0,0 +1,52 @@
+package com.fastcampus.fastcampusprojectboard.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.util.Objects;
+
+/**
+ * 보관된 게시글의 댓글 (article_comment_archive). 게시글과 함께 옮겨 오며 ID 와 부모 댓글 ID 를 그대로 둔다.
+ */
+@Getter
+@ToString(callSuper = true)
+@Table(name = "article_comment_archive", indexes = {
+        @Index(columnList = "articleId"),
+        @Index(columnList = "createdAt"),
+        @Index(columnList = "createdBy")
+})
+@Immutable
+@Entity
+public class ArchivedArticleComment extends AuditingFields {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "articleId")
+    private ArchivedArticle article;
+
+    @ManyToOne(optional = false)
+    @JoinColumn(name = "userId")
+    private UserAccount userAccount;
+
+    private Long parentCommentId;
+
+    @Column(nullable = false, length = 500) private String content;
+
+    protected ArchivedArticleComment() {}
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ArchivedArticleComment that)) return false;
+        return this.getId() != null && this.getId().equals(that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getId());
+    }
+}
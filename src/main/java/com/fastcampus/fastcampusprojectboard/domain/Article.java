@@ -4,6 +4,9 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.Collection;
 import java.util.LinkedHashSet;
@@ -30,7 +33,13 @@ public class Article extends AuditingFields{
     @Setter @Column(nullable = false) private String title;
     @Setter @Column(nullable = false, length = 10000) private String content;
 
+    // ArticleViewCountService 가 모아서 JDBC 로만 더한다. 엔티티 수정 때 옛 값으로 덮어쓰지 않도록 update 에서 뺀다
+    @ColumnDefault("0")
+    @Column(nullable = false, updatable = false)
+    private long viewCount;
+
     @ToString.Exclude
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "article.hashtags")
     @JoinTable(
             name = "article_hashtag",
             joinColumns = @JoinColumn(name = "articleId"),
@@ -64,6 +73,10 @@ public class Article extends AuditingFields{
         this.getHashtags().addAll(hashtags);
     }
 
+    public void removeHashtags(Collection<Hashtag> hashtags) {
+        this.getHashtags().removeAll(hashtags);
+    }
+
     public void clearHashtags() {
         this.getHashtags().clear();
     }
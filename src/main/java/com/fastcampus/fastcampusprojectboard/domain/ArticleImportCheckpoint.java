@@ -0,0 +1,27 @@
+package com.fastcampus.fastcampusprojectboard.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 등록 파일별로 몇 번째 레코드까지 처리했는지({@code consumed}).
+ * 배치와 같은 트랜잭션에서 갱신하므로, 중간에 멈추면 마지막으로 커밋된 배치 다음부터 이어서 등록한다.
+ * 읽고 쓰는 일은 ArticleJdbcRepository 가 한다.
+ */
+@Getter
+@ToString
+@Entity
+public class ArticleImportCheckpoint {
+
+    @Id
+    @Column(length = 500)
+    private String source;
+
+    @Column(nullable = false) private Long consumed;
+    @Column(nullable = false) private LocalDateTime modifiedAt;
+
+    protected ArticleImportCheckpoint() {}
+}
@@ -0,0 +1,33 @@
+package com.fastcampus.fastcampusprojectboard.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등 키로 처리한 쓰기 요청의 결과(리다이렉트 주소).
+ * 읽고 쓰는 일은 IdempotencyJdbcRepository 가 하고, 엔티티는 테이블 정의만 맡는다.
+ * 감사 필드 없이 키와 결과만 두고, 보관 기간이 지나면 지운다.
+ */
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "userId, idempotencyKey", unique = true),
+        @Index(columnList = "createdAt")
+})
+@Entity
+public class IdempotencyRecord {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 50) private String userId;
+    @Column(nullable = false, length = 64) private String idempotencyKey;
+    private String response;
+    @Column(nullable = false) private LocalDateTime createdAt;
+
+    protected IdempotencyRecord() {}
+}
@@ -0,0 +1,41 @@
+package com.fastcampus.fastcampusprojectboard.domain;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
+import com.fastcampus.fastcampusprojectboard.domain.constant.ChangeType;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글, 댓글, 해시태그 변경 이벤트 (transactional outbox).
+ * 바뀐 행과 같은 트랜잭션에서 쓰고, 읽고 쓰는 일은 OutboxJdbcRepository 가 한다. 엔티티는 테이블 정의만 맡는다.
+ * <p>
+ * {@code id} 는 insert 순서일 뿐 커밋 순서가 아니어서, 릴레이가 커밋된 행에 순번({@code seq})을 차례로 매긴다.
+ * 소비자는 {@code seq} 순서로 읽으므로 늦게 커밋된 이벤트를 건너뛰지 않는다.
+ */
+@Getter
+@ToString
+@Table(indexes = {
+        @Index(columnList = "seq", unique = true),
+        @Index(columnList = "createdAt")
+})
+@Entity
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20) private AggregateType aggregateType;
+    @Column(nullable = false) private Long aggregateId;
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10) private ChangeType changeType;
+    @Column(nullable = false) private LocalDateTime createdAt;
+
+    protected OutboxEvent() {}
+}
@@ -0,0 +1,26 @@
+package com.fastcampus.fastcampusprojectboard.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 변경 이벤트 소비자별로 어느 순번({@code lastSeq})까지 받았는지.
+ * 재시작한 소비자는 여기서부터 이어서 받는다. 읽고 쓰는 일은 OutboxJdbcRepository 가 한다.
+ */
+@Getter
+@ToString
+@Entity
+public class OutboxOffset {
+
+    @Id
+    @Column(length = 100)
+    private String consumerName;
+
+    @Column(nullable = false) private Long lastSeq;
+    @Column(nullable = false) private LocalDateTime modifiedAt;
+
+    protected OutboxOffset() {}
+}
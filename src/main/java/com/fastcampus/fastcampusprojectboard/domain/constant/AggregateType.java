@@ -0,0 +1,24 @@
+package com.fastcampus.fastcampusprojectboard.domain.constant;
+
+import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.fastcampus.fastcampusprojectboard.domain.ArticleComment;
+import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+
+/**
+ * 변경 이벤트(outbox_event)를 남기는 엔티티 종류
+ */
+public enum AggregateType {
+    ARTICLE,
+    ARTICLE_COMMENT,
+    HASHTAG;
+
+    /**
+     * @return 변경 이벤트를 남기지 않는 엔티티면 null
+     */
+    public static AggregateType of(Object entity) {
+        if (entity instanceof Article) return ARTICLE;
+        if (entity instanceof ArticleComment) return ARTICLE_COMMENT;
+        if (entity instanceof Hashtag) return HASHTAG;
+        return null;
+    }
+}
@@ -0,0 +1,8 @@
+package com.fastcampus.fastcampusprojectboard.domain.constant;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ARCHIVED // 보관 테이블로 옮겨져 기본 목록과 검색에서 빠졌다
+}
@@ -1,5 +1,6 @@
 package com.fastcampus.fastcampusprojectboard.dto;
 
+import com.fastcampus.fastcampusprojectboard.domain.ArchivedArticleComment;
 import com.fastcampus.fastcampusprojectboard.domain.Article;
 import com.fastcampus.fastcampusprojectboard.domain.ArticleComment;
 import com.fastcampus.fastcampusprojectboard.domain.UserAccount;
@@ -47,6 +48,20 @@ public record ArticleCommentDto(
         );
     }
 
+    public static ArticleCommentDto from(ArchivedArticleComment entity) {
+        return new ArticleCommentDto(
+                entity.getId(),
+                entity.getArticle().getId(),
+                UserAccountDto.from(entity.getUserAccount()),
+                entity.getParentCommentId(),
+                entity.getContent(),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getModifiedAt(),
+                entity.getModifiedBy()
+        );
+    }
+
     public ArticleComment toEntity(Article article, UserAccount userAccount) {
         return ArticleComment.of(
                 article,
@@ -1,5 +1,6 @@
 package com.fastcampus.fastcampusprojectboard.dto;
 
+import com.fastcampus.fastcampusprojectboard.domain.ArchivedArticle;
 import com.fastcampus.fastcampusprojectboard.domain.Article;
 import com.fastcampus.fastcampusprojectboard.domain.UserAccount;
 
@@ -21,14 +22,15 @@ public record ArticleDto (
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        long viewCount
 ) {
     public static ArticleDto of(UserAccountDto userAccountDto, String title, String content, Set<HashtagDto> hashtagDtos) {
-        return new ArticleDto(null, userAccountDto, title, content, hashtagDtos, null, null, null, null);
+        return new ArticleDto(null, userAccountDto, title, content, hashtagDtos, null, null, null, null, 0);
     }
 
     public static ArticleDto of(Long id, UserAccountDto userAccountDto, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleDto(id, userAccountDto, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy);
+        return new ArticleDto(id, userAccountDto, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, 0);
     }
 
     public static ArticleDto from(Article entity) {
@@ -43,7 +45,25 @@ public record ArticleDto (
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
                 entity.getModifiedAt(),
-                entity.getModifiedBy()
+                entity.getModifiedBy(),
+                entity.getViewCount()
+        );
+    }
+
+    public static ArticleDto from(ArchivedArticle entity) {
+        return new ArticleDto(
+                entity.getId(),
+                UserAccountDto.from(entity.getUserAccount()),
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getHashtags().stream()
+                        .map(HashtagDto::from)
+                        .collect(Collectors.toUnmodifiableSet()),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getModifiedAt(),
+                entity.getModifiedBy(),
+                entity.getViewCount()
         );
     }
 
@@ -1,5 +1,6 @@
 package com.fastcampus.fastcampusprojectboard.dto;
 
+import com.fastcampus.fastcampusprojectboard.domain.ArchivedArticle;
 import com.fastcampus.fastcampusprojectboard.domain.Article;
 
 import java.time.LocalDateTime;
@@ -17,10 +18,12 @@ public record ArticleWithCommentsDto(
         LocalDateTime createdAt,
         String createdBy,
         LocalDateTime modifiedAt,
-        String modifiedBy
+        String modifiedBy,
+        long viewCount,
+        boolean archived
 ) {
     public static ArticleWithCommentsDto of(Long id, UserAccountDto userAccountDto, Set<ArticleCommentDto> articleCommentDtos, String title, String content, Set<HashtagDto> hashtagDtos, LocalDateTime createdAt, String createdBy, LocalDateTime modifiedAt, String modifiedBy) {
-        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy);
+        return new ArticleWithCommentsDto(id, userAccountDto, articleCommentDtos, title, content, hashtagDtos, createdAt, createdBy, modifiedAt, modifiedBy, 0, false);
     }
 
     public static ArticleWithCommentsDto from(Article entity) {
@@ -38,7 +41,30 @@ public record ArticleWithCommentsDto(
                 entity.getCreatedAt(),
                 entity.getCreatedBy(),
                 entity.getModifiedAt(),
-                entity.getModifiedBy()
+                entity.getModifiedBy(),
+                entity.getViewCount(),
+                false
+        );
+    }
+
+    public static ArticleWithCommentsDto from(ArchivedArticle entity) {
+        return new ArticleWithCommentsDto(
+                entity.getId(),
+                UserAccountDto.from(entity.getUserAccount()),
+                entity.getArticleComments().stream()
+                        .map(ArticleCommentDto::from)
+                        .collect(Collectors.toCollection(LinkedHashSet::new)),
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getHashtags().stream()
+                        .map(HashtagDto::from)
+                        .collect(Collectors.toUnmodifiableSet()),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getModifiedAt(),
+                entity.getModifiedBy(),
+                entity.getViewCount(),
+                true
         );
     }
 }
@@ -0,0 +1,71 @@
+package com.fastcampus.fastcampusprojectboard.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 대량 등록 입력 한 건. NDJSON 은 내보내기({@link com.fastcampus.fastcampusprojectboard.dto.response.ArticleExportResponse}) 형식을 그대로 받는다.
+ * {@code hashtagNames} 는 입력에서 읽지 않고, 파싱 단계에서 본문으로부터 채운다.
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ArticleImportRequest(
+        String userId,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        String createdBy,
+        Set<String> hashtagNames
+) {
+
+    public static ArticleImportRequest of(String userId, String title, String content, LocalDateTime createdAt, String createdBy) {
+        return new ArticleImportRequest(userId, title, content, createdAt, createdBy, Set.of());
+    }
+
+    // 컬럼 길이 (Article, UserAccount, AuditingFields). 넘는 레코드 하나가 배치 전체를 실패시키지 않도록 미리 거른다
+    private static final int MAX_USER_ID_LENGTH = 50;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final int MAX_CONTENT_LENGTH = 10000;
+    private static final int MAX_CREATED_BY_LENGTH = 100;
+
+    /**
+     * @return 등록할 수 없는 이유, 등록할 수 있으면 {@code null}
+     */
+    public String invalidReason() {
+        if (userId == null || userId.isBlank()) {
+            return "userId 없음";
+        }
+        if (title == null || title.isBlank()) {
+            return "title 없음";
+        }
+        if (content == null || content.isBlank()) {
+            return "content 없음";
+        }
+        if (userId.length() > MAX_USER_ID_LENGTH) {
+            return "userId 가 " + MAX_USER_ID_LENGTH + "자를 넘음";
+        }
+        if (title.length() > MAX_TITLE_LENGTH) {
+            return "title 이 " + MAX_TITLE_LENGTH + "자를 넘음";
+        }
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            return "content 가 " + MAX_CONTENT_LENGTH + "자를 넘음";
+        }
+        if (createdBy != null && createdBy.length() > MAX_CREATED_BY_LENGTH) {
+            return "createdBy 가 " + MAX_CREATED_BY_LENGTH + "자를 넘음";
+        }
+        return null;
+    }
+
+    // 작성일시/작성자가 비어 있으면 현재 시각과 작성 유저로 채우고, 본문에서 뽑은 해시태그를 붙인다
+    public ArticleImportRequest withDefaults(LocalDateTime now, Set<String> hashtagNames) {
+        return new ArticleImportRequest(
+                userId,
+                title,
+                content,
+                createdAt == null ? now : createdAt,
+                createdBy == null || createdBy.isBlank() ? userId : createdBy,
+                hashtagNames
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package com.fastcampus.fastcampusprojectboard.dto.response;
+
+import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.fastcampus.fastcampusprojectboard.domain.ArticleComment;
+import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 내보내기(NDJSON)의 한 줄.
+ * 영속성 컨텍스트를 주기적으로 비우기 때문에 엔티티가 아닌 값만 담는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ArticleExportResponse(
+        Long id,
+        String userId,
+        String title,
+        String content,
+        List<String> hashtags,
+        LocalDateTime createdAt,
+        String createdBy,
+        LocalDateTime modifiedAt,
+        String modifiedBy,
+        List<Comment> comments
+) {
+
+    public record Comment(
+            Long id,
+            Long parentCommentId,
+            String userId,
+            String content,
+            LocalDateTime createdAt,
+            String createdBy
+    ) {
+        public static Comment from(ArticleComment entity) {
+            return new Comment(
+                    entity.getId(),
+                    entity.getParentCommentId(),
+                    entity.getUserAccount().getUserId(),
+                    entity.getContent(),
+                    entity.getCreatedAt(),
+                    entity.getCreatedBy()
+            );
+        }
+    }
+
+    public static ArticleExportResponse from(Article entity, boolean includeComments) {
+        return new ArticleExportResponse(
+                entity.getId(),
+                entity.getUserAccount().getUserId(),
+                entity.getTitle(),
+                entity.getContent(),
+                entity.getHashtags().stream()
+                        .map(Hashtag::getHashtagName)
+                        .sorted()
+                        .toList(),
+                entity.getCreatedAt(),
+                entity.getCreatedBy(),
+                entity.getModifiedAt(),
+                entity.getModifiedBy(),
+                includeComments
+                        ? entity.getArticleComments().stream().map(Comment::from).toList()
+                        : null
+        );
+    }
+}
@@ -15,11 +15,12 @@ public record ArticleResponse(
         Set<String> hashtags,
         LocalDateTime createdAt,
         String email,
-        String nickname
+        String nickname,
+        long viewCount
 ) {
 
     public static ArticleResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname) {
-        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname);
+        return new ArticleResponse(id, title, content, hashtags, createdAt, email, nickname, 0);
     }
 
     public static ArticleResponse from(ArticleDto dto) {
@@ -37,7 +38,8 @@ public record ArticleResponse(
                                         .collect(Collectors.toUnmodifiableSet()),
                 dto.createdAt(),
                 dto.userAccountDto().email(),
-                nickname
+                nickname,
+                dto.viewCount()
         );
     }
 }
@@ -19,11 +19,13 @@ public record ArticleWithCommentsResponse(
         String email,
         String nickname,
         String userId,
-        Set<ArticleCommentResponse> articleCommentsResponse
+        Set<ArticleCommentResponse> articleCommentsResponse,
+        long viewCount,
+        boolean archived
 ) {
 
     public static ArticleWithCommentsResponse of(Long id, String title, String content, Set<String> hashtags, LocalDateTime createdAt, String email, String nickname, String userId, Set<ArticleCommentResponse> articleCommentResponses) {
-        return new ArticleWithCommentsResponse(id, title, content, hashtags, createdAt, email, nickname, userId, articleCommentResponses);
+        return new ArticleWithCommentsResponse(id, title, content, hashtags, createdAt, email, nickname, userId, articleCommentResponses, 0, false);
     }
 
     public static ArticleWithCommentsResponse from(ArticleWithCommentsDto dto) {
@@ -43,10 +45,17 @@ public record ArticleWithCommentsResponse(
                 dto.userAccountDto().email(),
                 nickname,
                 dto.userAccountDto().userId(),
-                organizeChildComments(dto.articleCommentDtos())
+                organizeChildComments(dto.articleCommentDtos()),
+                dto.viewCount(),
+                dto.archived()
         );
     }
 
+    // 아직 DB 에 반영되지 않은 조회수까지 더해서 보여줄 때 쓴다
+    public ArticleWithCommentsResponse withViewCount(long viewCount) {
+        return new ArticleWithCommentsResponse(id, title, content, hashtags, createdAt, email, nickname, userId, articleCommentsResponse, viewCount, archived);
+    }
+
     private static Set<ArticleCommentResponse> organizeChildComments(Set<ArticleCommentDto> dtos) {
         //데이터에 접근할 수 있게 Long 키가 모인 맵 만들기
         Map<Long, ArticleCommentResponse> map = dtos.stream()
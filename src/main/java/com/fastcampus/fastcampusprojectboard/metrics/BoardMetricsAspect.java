@@ -0,0 +1,73 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.SearchType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시판 핵심 경로의 실행 시간을 Micrometer 타이머(히스토그램 포함)로 남긴다. 서비스 코드는 건드리지 않는다.
+ * <ul>
+ *     <li>{@code board.article.search} - 검색 타입별 ({@code searchType}, 검색어가 없으면 {@code ALL})</li>
+ *     <li>{@code board.article.read} - 댓글 포함 게시글 조회</li>
+ *     <li>{@code board.article.write} - 저장/수정/삭제 ({@code operation})</li>
+ *     <li>{@code board.hashtag.parse} - 본문 해시태그 파싱</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+@Aspect
+@Component
+public class BoardMetricsAspect {
+
+    private static final String ARTICLE_SERVICE = "execution(* com.fastcampus.fastcampusprojectboard.service.ArticleService.";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around(ARTICLE_SERVICE + "searchArticles(..)) && args(searchType, searchKeyword, ..)")
+    public Object timeSearchArticles(ProceedingJoinPoint joinPoint, SearchType searchType, String searchKeyword) throws Throwable {
+        String searchTypeTag = searchKeyword == null || searchKeyword.isBlank() || searchType == null ? "ALL" : searchType.name();
+        return time(joinPoint, Timer.builder("board.article.search")
+                .description("Article search latency by search type")
+                .tag("searchType", searchTypeTag));
+    }
+
+    @Around(ARTICLE_SERVICE + "getArticleWithComments(..))")
+    public Object timeGetArticleWithComments(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Timer.builder("board.article.read")
+                .description("Article with comments lookup latency"));
+    }
+
+    @Around(ARTICLE_SERVICE + "saveArticle(..)) || " + ARTICLE_SERVICE + "updateArticle(..)) || " + ARTICLE_SERVICE + "deleteArticle(..))")
+    public Object timeArticleWrite(ProceedingJoinPoint joinPoint) throws Throwable {
+        String operation = joinPoint.getSignature().getName().replace("Article", "");
+        return time(joinPoint, Timer.builder("board.article.write")
+                .description("Article save/update/delete latency")
+                .tag("operation", operation));
+    }
+
+    @Around("execution(* com.fastcampus.fastcampusprojectboard.service.HashtagService.parseHashtagNames(..))")
+    public Object timeHashtagParsing(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, Timer.builder("board.hashtag.parse")
+                .description("Hashtag parsing latency"));
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, Timer.Builder builder) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(builder
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
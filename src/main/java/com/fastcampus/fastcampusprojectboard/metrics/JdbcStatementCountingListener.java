@@ -0,0 +1,20 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션마다 하나씩 생기는 Hibernate 세션 이벤트 리스너 ({@code hibernate.session.events.auto}).
+ * Hibernate 통계가 세는 것과 같은 시점에 실행된 JDBC 문장(배치는 한 번)을 {@link SqlStatementCounter} 에 올린다.
+ */
+public class JdbcStatementCountingListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementCounter.statementExecuted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementCounter.statementExecuted();
+    }
+}
@@ -0,0 +1,56 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 {@link SqlStatementCounter} 를 열고, 끝나면 실행된 JDBC 문장 수와 읽은 행 수를 URI 패턴별 분포로 남긴다.
+ * <ul>
+ *     <li>{@code board.request.jdbc.statements}</li>
+ *     <li>{@code board.request.jdbc.rows}</li>
+ * </ul>
+ */
+public class RequestSqlStatisticsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    public RequestSqlStatisticsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter counter = SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatementCounter.clear();
+            // 정적 리소스처럼 매핑된 핸들러가 없는 요청은 DB 를 쓰지 않으므로 남기지 않는다
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (uri != null && counter.statements() > 0) {
+                summary("board.request.jdbc.statements", "JDBC statements executed per request", request, uri)
+                        .record(counter.statements());
+                summary("board.request.jdbc.rows", "Entity rows fetched by Hibernate per request", request, uri)
+                        .record(counter.rowsFetched());
+            }
+        }
+    }
+
+    private DistributionSummary summary(String name, String description, HttpServletRequest request, Object uri) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .tag("method", request.getMethod())
+                .tag("uri", uri.toString())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 핸들러 하나가 요청 동안 실행해도 되는 JDBC 문장 수.
+ * 엔티티 → DTO 매핑에서 지연 로딩이 늘어나는(N+1) 회귀를 잡기 위한 것으로, {@link SqlBudgetInterceptor} 가 검사한다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    /**
+     * 허용하는 최대 JDBC 문장 수
+     */
+    int value();
+}
@@ -0,0 +1,8 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+public class SqlBudgetExceededException extends IllegalStateException {
+
+    public SqlBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,23 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * {@link SqlBudgetInterceptor} 가 fail 모드에서 남긴 예산 초과를 {@code DispatcherServlet} 밖으로 던진다.
+ * MVC 설정({@code WebMvcConfig})에서 인터셉터와 함께 등록하므로 {@code @WebMvcTest} 슬라이스에서도 동작한다.
+ */
+public class SqlBudgetFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        filterChain.doFilter(request, response);
+        SqlBudgetInterceptor.rethrowIfExceeded(request);
+    }
+}
@@ -0,0 +1,92 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * {@link SqlBudget} 이 붙은 핸들러가 실행한 JDBC 문장 수를 세고, 예산을 넘으면 경고하거나 요청을 실패시킨다.
+ * 보통은 {@link RequestSqlStatisticsFilter} 가 연 카운터를 이어서 쓰고, 필터가 없는 환경(MockMvc 슬라이스 테스트)에서는 직접 연다.
+ * <p>
+ * 뷰 렌더링 중의 지연 로딩도 세도록 요청이 끝난 뒤({@code afterCompletion}) 검사한다.
+ * 이때 {@code DispatcherServlet} 은 인터셉터가 던진 예외를 로그만 남기고 삼키므로,
+ * fail 모드에서는 예외를 요청 속성에 남겨 두고 {@link SqlBudgetFilter} 가 필터 체인 밖으로 다시 던진다.
+ */
+@Slf4j
+public class SqlBudgetInterceptor implements HandlerInterceptor {
+
+    private static final String BASELINE_ATTRIBUTE = SqlBudgetInterceptor.class.getName() + ".baseline";
+    private static final String OWNS_COUNTER_ATTRIBUTE = SqlBudgetInterceptor.class.getName() + ".ownsCounter";
+    private static final String EXCEEDED_ATTRIBUTE = SqlBudgetInterceptor.class.getName() + ".exceeded";
+
+    private final SqlBudgetProperties properties;
+
+    public SqlBudgetInterceptor(SqlBudgetProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (budgetOf(handler) == null) {
+            return true;
+        }
+
+        SqlStatementCounter counter = SqlStatementCounter.current();
+        if (counter == null) {
+            counter = SqlStatementCounter.start();
+            request.setAttribute(OWNS_COUNTER_ATTRIBUTE, true);
+        }
+        request.setAttribute(BASELINE_ATTRIBUTE, counter.statements());
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        try {
+            checkBudget(request, handler);
+        } finally {
+            if (request.getAttribute(OWNS_COUNTER_ATTRIBUTE) != null) {
+                SqlStatementCounter.clear();
+            }
+        }
+    }
+
+    /**
+     * fail 모드에서 예산을 넘은 요청이면 남겨 둔 {@link SqlBudgetExceededException} 을 던진다.
+     */
+    static void rethrowIfExceeded(ServletRequest request) {
+        if (request.getAttribute(EXCEEDED_ATTRIBUTE) instanceof SqlBudgetExceededException exception) {
+            throw exception;
+        }
+    }
+
+    private void checkBudget(HttpServletRequest request, Object handler) {
+        SqlBudget budget = budgetOf(handler);
+        SqlStatementCounter counter = SqlStatementCounter.current();
+        if (budget == null || counter == null || !(request.getAttribute(BASELINE_ATTRIBUTE) instanceof Long baseline)) {
+            return;
+        }
+
+        long used = counter.statements() - baseline;
+        if (used <= budget.value()) {
+            return;
+        }
+
+        String message = String.format("SQL 예산 초과 - handler: %s, budget: %d, executed: %d",
+                ((HandlerMethod) handler).getShortLogMessage(), budget.value(), used);
+        if (properties.mode() == SqlBudgetProperties.Mode.FAIL) {
+            request.setAttribute(EXCEEDED_ATTRIBUTE, new SqlBudgetExceededException(message));
+            log.error(message);
+            return;
+        }
+        log.warn(message);
+    }
+
+    private static SqlBudget budgetOf(Object handler) {
+        return handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethodAnnotation(SqlBudget.class) : null;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@link SqlBudget} 초과 시 동작.
+ * 운영에서는 경고 로그만 남기고, 테스트에서는 {@code fail} 로 바꿔서 요청 자체를 실패시킨다. (src/test/resources/config/application.yaml)
+ */
+@ConfigurationProperties("board.sql-budget")
+public record SqlBudgetProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("warn") Mode mode
+) {
+    public enum Mode {
+        WARN, FAIL
+    }
+}
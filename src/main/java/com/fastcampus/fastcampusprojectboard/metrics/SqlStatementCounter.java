@@ -0,0 +1,54 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+/**
+ * 요청 하나 동안 실행된 JDBC 문장 수와 Hibernate 가 읽어들인 행(엔티티) 수.
+ * 요청을 처리하는 스레드에 묶어두고, Hibernate 이벤트 리스너가 값을 올린다. 요청 밖(배치, 스케줄러)에서는 아무것도 세지 않는다.
+ */
+public final class SqlStatementCounter {
+
+    private static final ThreadLocal<SqlStatementCounter> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long rowsFetched;
+
+    private SqlStatementCounter() {}
+
+    public static SqlStatementCounter start() {
+        SqlStatementCounter counter = new SqlStatementCounter();
+        CURRENT.set(counter);
+        return counter;
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return 현재 스레드에서 세고 있는 카운터, 없으면 {@code null}
+     */
+    public static SqlStatementCounter current() {
+        return CURRENT.get();
+    }
+
+    static void statementExecuted() {
+        SqlStatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.statements++;
+        }
+    }
+
+    static void rowFetched() {
+        SqlStatementCounter counter = CURRENT.get();
+        if (counter != null) {
+            counter.rowsFetched++;
+        }
+    }
+
+    public long statements() {
+        return statements;
+    }
+
+    public long rowsFetched() {
+        return rowsFetched;
+    }
+}
@@ -0,0 +1,31 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * 엔티티가 로드될 때마다 {@link SqlStatementCounter} 의 읽은 행 수를 올리는 리스너를 Hibernate 에 등록한다.
+ * 스칼라 조회(count, 해시태그 이름 목록 등)는 엔티티를 만들지 않으므로 세지 않는다.
+ * META-INF/services/org.hibernate.integrator.spi.Integrator 로 등록된다.
+ */
+public class SqlStatisticsIntegrator implements Integrator {
+
+    private static final PostLoadEventListener ROW_COUNTING_LISTENER = event -> SqlStatementCounter.rowFetched();
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        sessionFactory.getServiceRegistry()
+                .getService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, ROW_COUNTING_LISTENER);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
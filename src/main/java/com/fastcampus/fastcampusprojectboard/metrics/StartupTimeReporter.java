@@ -0,0 +1,29 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * JVM 시작부터 트래픽을 받을 수 있게 될 때(readiness ACCEPTING_TRAFFIC)까지 걸린 시간을 남긴다.
+ * 스프링 부트의 application.ready.time 과 달리 JVM 기동, 클래스 로딩(CDS) 시간도 포함한다.
+ * 측정 실행에서 준비되자마자 종료하는 일은 {@code board.startup.exit-after-ready} 를 읽는 main 메서드가 한다.
+ */
+@Slf4j
+@Component
+public class StartupTimeReporter {
+
+    @EventListener
+    public void onReadiness(AvailabilityChangeEvent<ReadinessState> event) {
+        if (event.getState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return;
+        }
+
+        // startupTime 태스크가 이 줄을 읽어 간다
+        log.info("기동 완료 - time-to-ready={}ms", ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+}
@@ -0,0 +1,22 @@
+package com.fastcampus.fastcampusprojectboard.outbox;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
+import com.fastcampus.fastcampusprojectboard.domain.constant.ChangeType;
+
+import java.time.LocalDateTime;
+
+/**
+ * outbox_event 한 행. 아직 릴레이가 순번을 매기지 않은 이벤트는 {@code seq} 가 0 이다.
+ */
+public record ChangeEvent(
+        long seq,
+        AggregateType aggregateType,
+        long aggregateId,
+        ChangeType changeType,
+        LocalDateTime createdAt
+) {
+
+    public static ChangeEvent of(AggregateType aggregateType, long aggregateId, ChangeType changeType) {
+        return new ChangeEvent(0, aggregateType, aggregateId, changeType, LocalDateTime.now());
+    }
+}
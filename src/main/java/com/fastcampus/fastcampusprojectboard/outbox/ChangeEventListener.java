@@ -0,0 +1,26 @@
+package com.fastcampus.fastcampusprojectboard.outbox;
+
+import java.util.List;
+
+/**
+ * {@link OutboxRelay} 가 변경 이벤트를 순번 순서대로 묶어서 넘겨주는 소비자. 스프링 빈으로 등록하면 된다.
+ * <p>
+ * 받은 위치는 {@code name()} 별로 outbox_offset 에 남으므로 재시작해도 이어서 받는다.
+ * 넘겨준 뒤 위치를 기록하기 전에 죽으면 같은 이벤트를 다시 받으니, 여러 번 받아도 괜찮게 처리한다.
+ */
+public interface ChangeEventListener {
+
+    String name();
+
+    /**
+     * true 면 노드마다 따로 받는다 (노드별 캐시 등). false 면 클러스터에서 한 노드만 받는다.
+     */
+    default boolean perNode() {
+        return true;
+    }
+
+    /**
+     * 예외를 던지면 위치를 옮기지 않고 다음 주기에 같은 이벤트부터 다시 넘겨준다.
+     */
+    void onEvents(List<ChangeEvent> events);
+}
@@ -0,0 +1,90 @@
+package com.fastcampus.fastcampusprojectboard.outbox;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
+import com.fastcampus.fastcampusprojectboard.domain.constant.ChangeType;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JPA 로 게시글, 댓글, 해시태그를 넣고 고치고 지울 때마다 변경 이벤트를 모았다가, 커밋 직전에 같은 커넥션으로 outbox_event 에 한 번에 넣는다.
+ * 서비스, Spring Data REST, cascade 어느 경로로 바뀌어도 잡히고, 트랜잭션이 롤백되면 이벤트도 남지 않는다.
+ * <p>
+ * flush 도중에는 SQL 을 더 실행하지 않고, Hibernate Envers 처럼 세션의 커밋 전 처리(BeforeTransactionCompletionProcess)로 미룬다.
+ * JDBC 로 직접 쓰는 경로(대량 등록, 해시태그 upsert)는 여기 걸리지 않으므로 OutboxJdbcRepository 로 직접 넣는다.
+ */
+public class OutboxCaptureListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final Map<SharedSessionContractImplementor, PendingEvents> pendingEvents = new ConcurrentHashMap<>();
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        capture(event.getSession(), event.getEntity(), event.getId(), ChangeType.CREATED);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        capture(event.getSession(), event.getEntity(), event.getId(), ChangeType.UPDATED);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        capture(event.getSession(), event.getEntity(), event.getId(), ChangeType.DELETED);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void capture(EventSource session, Object entity, Object id, ChangeType changeType) {
+        AggregateType aggregateType = AggregateType.of(entity);
+        if (aggregateType == null || !(id instanceof Long aggregateId)) {
+            return;
+        }
+
+        pendingEvents.computeIfAbsent(session, key -> {
+            PendingEvents events = new PendingEvents();
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) events);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) events);
+            return events;
+        }).add(ChangeEvent.of(aggregateType, aggregateId, changeType));
+    }
+
+    // 세션 하나(트랜잭션 하나)에서 모은 이벤트. 커밋 전에 쓰고, 커밋이든 롤백이든 끝나면 버린다
+    private final class PendingEvents implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        private final List<ChangeEvent> events = new ArrayList<>();
+
+        void add(ChangeEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            if (!events.isEmpty()) {
+                session.doWork(connection -> OutboxJdbcRepository.insertEvents(connection, events));
+            }
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            pendingEvents.remove(session);
+        }
+    }
+}
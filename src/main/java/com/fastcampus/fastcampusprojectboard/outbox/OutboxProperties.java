@@ -0,0 +1,20 @@
+package com.fastcampus.fastcampusprojectboard.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 변경 이벤트 outbox 설정.
+ * {@code nodeId} 는 노드별 소비자의 위치를 나누는 이름이라 재시작해도 바뀌지 않아야 한다.
+ * 이벤트는 {@code retention} 이 지나면 지우므로, 그보다 오래 멈춰 있던 소비자는 놓친 이벤트를 받지 못한다.
+ */
+@ConfigurationProperties("board.outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("local") String nodeId,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("7d") Duration retention
+) {
+}
@@ -0,0 +1,107 @@
+package com.fastcampus.fastcampusprojectboard.outbox;
+
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * outbox_event 를 주기적으로 읽어 {@link ChangeEventListener} 들에게 넘긴다. 노드마다 하나씩 돌고, 같은 테이블을 나눠 본다.
+ * <ol>
+ *     <li>순번 행을 잠그고 커밋된 새 이벤트에 순번을 매긴다 (한 번에 한 노드만)</li>
+ *     <li>소비자마다 위치 행을 잠그고, 그 뒤 이벤트를 {@code batchSize} 개씩 넘긴 다음 위치를 옮긴다</li>
+ * </ol>
+ * 넘기기와 위치 갱신이 한 트랜잭션이라, 소비자가 실패하면 위치가 그대로 남아 다음 주기에 다시 넘긴다.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final OutboxProperties properties;
+    private final ObjectProvider<ChangeEventListener> listeners;
+    private final TransactionTemplate transactionTemplate;
+    private final Set<String> knownOffsets = ConcurrentHashMap.newKeySet();
+
+    public OutboxRelay(
+            OutboxJdbcRepository outboxJdbcRepository,
+            OutboxProperties properties,
+            ObjectProvider<ChangeEventListener> listeners,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.outboxJdbcRepository = outboxJdbcRepository;
+        this.properties = properties;
+        this.listeners = listeners;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${board.outbox.poll-interval:PT1S}")
+    public void relay() {
+        try {
+            assignSequence();
+        } catch (RuntimeException e) {
+            log.warn("변경 이벤트 순번 매기기 실패, 다음 주기에 다시 시도합니다 - {}", e.getLocalizedMessage());
+            return;
+        }
+        listeners.orderedStream().forEach(this::deliver);
+    }
+
+    @Scheduled(fixedDelayString = "${board.outbox.cleanup-interval:PT1H}")
+    public void deleteExpiredEvents() {
+        int deleted = outboxJdbcRepository.deleteEventsCreatedBefore(LocalDateTime.now().minus(properties.retention()));
+        if (deleted > 0) {
+            log.debug("보관 기간이 지난 변경 이벤트를 지웠습니다 - count: {}", deleted);
+        }
+    }
+
+    private void assignSequence() {
+        ensureOffset(OutboxJdbcRepository.SEQUENCER);
+        int assigned;
+        do {
+            assigned = Objects.requireNonNull(transactionTemplate.execute(status ->
+                    outboxJdbcRepository.assignSequence(properties.batchSize())));
+        } while (assigned == properties.batchSize());
+    }
+
+    private void deliver(ChangeEventListener listener) {
+        String consumerName = listener.perNode() ? listener.name() + "@" + properties.nodeId() : listener.name();
+        try {
+            ensureOffset(consumerName);
+            int delivered;
+            do {
+                delivered = Objects.requireNonNull(transactionTemplate.execute(status -> {
+                    List<ChangeEvent> events = outboxJdbcRepository.findEventsAfter(
+                            outboxJdbcRepository.lockOffset(consumerName), properties.batchSize());
+                    if (events.isEmpty()) {
+                        return 0;
+                    }
+
+                    listener.onEvents(events);
+                    outboxJdbcRepository.saveOffset(consumerName, events.get(events.size() - 1).seq());
+                    return events.size();
+                }));
+            } while (delivered == properties.batchSize());
+        } catch (RuntimeException e) {
+            log.warn("변경 이벤트 전달 실패, 다음 주기에 다시 시도합니다 - consumer: {}, {}", consumerName, e.getLocalizedMessage());
+        }
+    }
+
+    private void ensureOffset(String consumerName) {
+        if (knownOffsets.contains(consumerName)) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxJdbcRepository.createOffsetIfAbsent(consumerName));
+        } catch (DuplicateKeyException e) {
+            log.debug("다른 노드가 먼저 만든 위치를 씁니다 - consumer: {}", consumerName);
+        }
+        knownOffsets.add(consumerName);
+    }
+}
@@ -0,0 +1,52 @@
+package com.fastcampus.fastcampusprojectboard.outbox;
+
+import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+import com.fastcampus.fastcampusprojectboard.repository.querydsl.HashtagRepositoryCustom;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+
+import java.util.List;
+
+/**
+ * 다른 노드에서 바뀐 게시글의 해시태그 목록, 해시태그, 해시태그 이름 목록을 이 노드의 2차 캐시에서 지운다.
+ * 2차 캐시는 노드마다 따로 있어서, 쓴 노드의 캐시만 갱신되고 나머지 노드는 만료될 때까지 옛 값을 보기 때문이다.
+ * 이 노드에서 쓴 변경도 한 번 더 지우게 되는데, 다음 조회 한 번이 DB 로 가는 것뿐이다.
+ */
+public class SecondLevelCacheEvictingListener implements ChangeEventListener {
+
+    private static final String ARTICLE_HASHTAGS_ROLE = Article.class.getName() + ".hashtags";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheEvictingListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public String name() {
+        return "second-level-cache";
+    }
+
+    @Override
+    public void onEvents(List<ChangeEvent> events) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        boolean hashtagChanged = false;
+
+        for (ChangeEvent event : events) {
+            switch (event.aggregateType()) {
+                case ARTICLE -> cache.evictCollectionData(ARTICLE_HASHTAGS_ROLE, event.aggregateId());
+                case HASHTAG -> {
+                    cache.evictEntityData(Hashtag.class, event.aggregateId());
+                    hashtagChanged = true;
+                }
+                case ARTICLE_COMMENT -> { } // 댓글은 2차 캐시에 두지 않는다
+            }
+        }
+
+        if (hashtagChanged) {
+            cache.evictQueryRegion(HashtagRepositoryCustom.HASHTAG_NAMES_CACHE_REGION);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.fastcampus.fastcampusprojectboard.ratelimit;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.time.Duration;
+
+/**
+ * {@link RateLimited} 이 붙은 핸들러를 실행하기 전에 사용자 버킷과 IP 버킷에서 토큰을 하나씩 쓴다.
+ * 어느 쪽이든 모자라면 핸들러(와 DB 쓰기)까지 가지 않고 429 와 {@code Retry-After} 로 바로 응답한다.
+ * IP 버킷에 막히면 사용자 버킷에서 쓴 토큰은 돌려준다. 처리하지 않은 요청이 사용자 한도를 깎지 않게 하기 위해서다.
+ * <p>
+ * IP 는 {@link HttpServletRequest#getRemoteAddr()} 를 쓴다. 프록시 뒤라면 {@code server.forward-headers-strategy} 로 실제 주소가 들어오게 한다.
+ */
+@Slf4j
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+
+    public RateLimitInterceptor(RateLimitProperties properties, RateLimiter rateLimiter) {
+        this.properties = properties;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        RateLimited rateLimited = handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethodAnnotation(RateLimited.class) : null;
+        if (rateLimited == null) {
+            return true;
+        }
+
+        String policyName = rateLimited.value();
+        RateLimitProperties.Policy policy = properties.policies().get(policyName);
+        if (policy == null) {
+            throw new IllegalStateException("정의되지 않은 요청 한도 정책입니다 - policy: " + policyName);
+        }
+
+        Principal principal = request.getUserPrincipal();
+        String userKey = policy.perUser() != null && principal != null ? policyName + ":user:" + principal.getName() : null;
+        Duration retryAfter = Duration.ZERO;
+        if (userKey != null) {
+            retryAfter = rateLimiter.tryAcquire(userKey, policy.perUser());
+        }
+        if (retryAfter.isZero() && policy.perIp() != null) {
+            retryAfter = rateLimiter.tryAcquire(policyName + ":ip:" + request.getRemoteAddr(), policy.perIp());
+            if (!retryAfter.isZero() && userKey != null) {
+                rateLimiter.release(userKey);
+            }
+        }
+        if (retryAfter.isZero()) {
+            return true;
+        }
+
+        log.debug("요청 한도를 넘었습니다 - policy: {}, user: {}, ip: {}, retryAfter: {}",
+                policyName, principal == null ? null : principal.getName(), request.getRemoteAddr(), retryAfter);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds(retryAfter)));
+        response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        return false;
+    }
+
+    // Retry-After 는 초 단위 정수라서 올림한다
+    private static long retryAfterSeconds(Duration retryAfter) {
+        long seconds = retryAfter.toSeconds();
+        return retryAfter.minusSeconds(seconds).isZero() ? Math.max(1, seconds) : seconds + 1;
+    }
+}
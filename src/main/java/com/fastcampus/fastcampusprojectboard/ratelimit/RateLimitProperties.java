@@ -0,0 +1,34 @@
+package com.fastcampus.fastcampusprojectboard.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 쓰기 요청 한도 설정.
+ * {@code policies} 는 {@link RateLimited} 이름별로 사용자 한도({@code perUser})와 IP 한도({@code perIp})를 준다. 비워 둔 쪽은 검사하지 않는다.
+ * <p>
+ * 버킷은 {@code stripes} 개로 나눈 표에 최대 {@code maxKeys} 개까지만 두고, 다 차오른(한동안 요청이 없던) 버킷은 주기적으로 지운다.
+ */
+@ConfigurationProperties("board.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") int maxKeys,
+        @DefaultValue("16") int stripes,
+        @DefaultValue Map<String, Policy> policies
+) {
+    public record Policy(Limit perUser, Limit perIp) {}
+
+    /**
+     * {@code period} 동안 {@code capacity} 번. 한 번에 몰아 쓸 수 있는 양도 {@code capacity} 까지다.
+     */
+    public record Limit(int capacity, Duration period) {
+        public Limit {
+            if (capacity < 1 || period == null || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("요청 한도는 1번 이상, 기간은 0보다 길어야 합니다 - capacity: " + capacity + ", period: " + period);
+            }
+        }
+    }
+}
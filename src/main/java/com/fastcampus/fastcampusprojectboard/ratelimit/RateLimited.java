@@ -0,0 +1,22 @@
+package com.fastcampus.fastcampusprojectboard.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 핸들러에 요청 한도를 건다. 한도 값은 {@code board.rate-limit.policies.<이름>} 에서 읽고,
+ * {@link RateLimitInterceptor} 가 사용자별, IP 별로 검사해서 넘으면 429 로 응답한다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * 적용할 정책 이름
+     */
+    String value();
+}
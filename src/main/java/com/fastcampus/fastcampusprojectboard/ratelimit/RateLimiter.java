@@ -0,0 +1,115 @@
+package com.fastcampus.fastcampusprojectboard.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 키별 {@link TokenBucket} 을 들고 있는 요청 한도기.
+ * <p>
+ * 버킷 표는 여러 조각(stripe)으로 나누고 조각마다 들 수 있는 키 수를 제한한다. 전체 크기를 한 카운터로 세지 않으므로 조각끼리 다투지 않는다.
+ * 조각이 가득 차면 다 차오른 버킷을 먼저 치우고, 그래도 자리가 없으면 새 키는 거절한다. 키를 계속 바꿔 가며 들어오는 요청에 메모리로 맞서지 않기 위해서다.
+ * <p>
+ * 다 차오른 버킷은 주기적으로 지운다. 지운 버킷과 새 버킷은 같은 상태라서 한도가 느슨해지지 않는다.
+ * 지우는 순간 그 버킷을 쓰고 있던 요청이 있으면 토큰 하나가 더 생길 수 있는데, 그 정도는 감수한다.
+ */
+@Slf4j
+public class RateLimiter {
+
+    private static final long SWEEP_ON_FULL_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Stripe[] stripes;
+    private final int keysPerStripe;
+    private final LongSupplier nanoClock;
+
+    public RateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    RateLimiter(RateLimitProperties properties, LongSupplier nanoClock) {
+        int stripeCount = Integer.highestOneBit(Math.max(1, properties.stripes()));
+        this.nanoClock = nanoClock;
+        this.keysPerStripe = Math.max(1, (properties.maxKeys() + stripeCount - 1) / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        Arrays.setAll(stripes, i -> new Stripe());
+    }
+
+    /**
+     * {@code key} 의 버킷에서 토큰 하나를 쓴다.
+     *
+     * @return 통과면 {@link Duration#ZERO}, 아니면 다시 시도해도 되는 때까지 남은 시간
+     */
+    public Duration tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long now = nanoClock.getAsLong();
+        Stripe stripe = stripeOf(key);
+
+        TokenBucket bucket = stripe.buckets.get(key);
+        if (bucket == null) {
+            if (!stripe.hasRoom(now)) {
+                log.debug("요청 한도 표가 가득 차서 새 키를 거절합니다 - key: {}", key);
+                return limit.period().dividedBy(limit.capacity());
+            }
+            bucket = stripe.buckets.computeIfAbsent(key, k -> new TokenBucket(limit, now));
+        }
+
+        long waitNanos = bucket.tryConsume(now);
+        return waitNanos == 0 ? Duration.ZERO : Duration.ofNanos(waitNanos);
+    }
+
+    /**
+     * {@link #tryAcquire} 로 쓴 토큰 하나를 돌려준다. 다른 한도에 막혀 요청을 처리하지 않을 때 쓴다.
+     * 그 사이 버킷이 치워졌으면 이미 다 찬 것이므로 아무것도 하지 않는다.
+     */
+    public void release(String key) {
+        TokenBucket bucket = stripeOf(key).buckets.get(key);
+        if (bucket != null) {
+            bucket.refund(nanoClock.getAsLong());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${board.rate-limit.eviction-interval:PT1M}")
+    public void evictIdleBuckets() {
+        long now = nanoClock.getAsLong();
+        for (Stripe stripe : stripes) {
+            stripe.evictFull(now);
+        }
+    }
+
+    public long size() {
+        return Arrays.stream(stripes).mapToLong(stripe -> stripe.buckets.mappingCount()).sum();
+    }
+
+    private Stripe stripeOf(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    private final class Stripe {
+
+        private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+        private final AtomicLong lastSweepNanos = new AtomicLong(nanoClock.getAsLong() - SWEEP_ON_FULL_INTERVAL_NANOS);
+
+        boolean hasRoom(long now) {
+            if (buckets.mappingCount() < keysPerStripe) {
+                return true;
+            }
+
+            // 가득 찬 채로 새 키가 몰려도 조각 전체를 훑는 일은 1초에 한 번만 한다
+            long lastSweep = lastSweepNanos.get();
+            if (now - lastSweep >= SWEEP_ON_FULL_INTERVAL_NANOS && lastSweepNanos.compareAndSet(lastSweep, now)) {
+                evictFull(now);
+            }
+            return buckets.mappingCount() < keysPerStripe;
+        }
+
+        void evictFull(long now) {
+            buckets.values().removeIf(bucket -> bucket.isFull(now));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.fastcampus.fastcampusprojectboard.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷.
+ * 남은 토큰 수와 마지막 충전 시각을 따로 두는 대신 "버킷이 다시 가득 차는 시각" 하나만 {@link AtomicLong} 에 두고 CAS 로 옮긴다.
+ * 토큰 하나를 쓰면 그 시각이 {@code interval} 만큼 뒤로 가고, 지금보다 {@code capacity * interval} 넘게 앞서게 되면 토큰이 없는 것이다.
+ */
+final class TokenBucket {
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong fullAtNanos;
+
+    TokenBucket(RateLimitProperties.Limit limit, long nowNanos) {
+        this.intervalNanos = Math.max(1, limit.period().toNanos() / limit.capacity());
+        this.burstNanos = intervalNanos * limit.capacity();
+        this.fullAtNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * 토큰 하나를 쓴다.
+     *
+     * @return 통과면 0, 아니면 다음 토큰이 생길 때까지 남은 나노초
+     */
+    long tryConsume(long nowNanos) {
+        while (true) {
+            long fullAt = fullAtNanos.get();
+            long next = Math.max(fullAt, nowNanos) + intervalNanos;
+            long waitNanos = next - nowNanos - burstNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (fullAtNanos.compareAndSet(fullAt, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * {@link #tryConsume} 로 쓴 토큰 하나를 돌려준다. 이미 다 차 있으면 그대로 둔다.
+     */
+    void refund(long nowNanos) {
+        fullAtNanos.updateAndGet(fullAt -> Math.max(fullAt - intervalNanos, nowNanos));
+    }
+
+    /**
+     * 다 차오른 버킷은 새로 만든 버킷과 같으므로 지워도 된다.
+     */
+    boolean isFull(long nowNanos) {
+        return fullAtNanos.get() - nowNanos <= 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fastcampus.fastcampusprojectboard.repository;
+
+import com.fastcampus.fastcampusprojectboard.domain.ArchivedArticle;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+
+// 보관된 글은 게시판 화면에서 ID 로 찾거나 "보관된 글에서 찾기"로만 읽는다 (@RepositoryRestResource 가 없어 /api 로는 나가지 않는다)
+public interface ArchivedArticleRepository extends JpaRepository<ArchivedArticle, Long> {
+
+    Page<ArchivedArticle> findByTitleContaining(String title, Pageable pageable);
+    Page<ArchivedArticle> findByContentContaining(String content, Pageable pageable);
+    Page<ArchivedArticle> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
+    Page<ArchivedArticle> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
+    Page<ArchivedArticle> findDistinctByHashtags_HashtagNameIn(Collection<String> hashtagNames, Pageable pageable);
+}
@@ -3,15 +3,22 @@ package com.fastcampus.fastcampusprojectboard.repository;
 import com.fastcampus.fastcampusprojectboard.domain.Article;
 import com.fastcampus.fastcampusprojectboard.domain.QArticle;
 import com.fastcampus.fastcampusprojectboard.repository.querydsl.ArticleRepositoryCustom;
-import com.querydsl.core.types.dsl.DateTimeExpression;
 import com.querydsl.core.types.dsl.StringExpression;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 import org.springframework.data.querydsl.binding.QuerydslBinderCustomizer;
 import org.springframework.data.querydsl.binding.QuerydslBindings;
 import org.springframework.data.rest.core.annotation.RepositoryRestResource;
+import org.springframework.data.rest.core.annotation.RestResource;
+
+import java.util.Collection;
+import java.util.List;
 
 @RepositoryRestResource
 public interface ArticleRepository extends
@@ -20,20 +27,46 @@ public interface ArticleRepository extends
         QuerydslPredicateExecutor<Article>,
         QuerydslBinderCustomizer<QArticle> {
 
-    Page<Article> findByTitleContaining(String title, Pageable pageable);
-    Page<Article> findByContentContaining(String content, Pageable pageable);
-    Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
-    Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
+    // '%x%' 검색은 인덱스를 못 타므로 /api/articles/search 로는 노출하지 않는다
+    @RestResource(exported = false) Page<Article> findByTitleContaining(String title, Pageable pageable);
+    @RestResource(exported = false) Page<Article> findByContentContaining(String content, Pageable pageable);
+    @RestResource(exported = false) Page<Article> findByUserAccount_UserIdContaining(String userId, Pageable pageable);
+    @RestResource(exported = false) Page<Article> findByUserAccount_NicknameContaining(String nickname, Pageable pageable);
     void deleteByIdAndUserAccount_UserId(Long articleId, String userId);
 
+    // 전체 내보내기용. 커서 대신 ID 순서로 한 구간씩 끊어 읽고, 구간마다 연관 엔티티를 IN 쿼리 한두 번으로 채운다
+    @RestResource(exported = false)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select a.id from Article a where a.id > :lastId order by a.id")
+    List<Long> findIdsAfter(long lastId, Pageable pageable);
+
+    @RestResource(exported = false)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select distinct a from Article a join fetch a.userAccount left join fetch a.hashtags where a.id in :ids order by a.id")
+    List<Article> findAllWithUserAccountAndHashtagsByIdIn(Collection<Long> ids);
+
+    // 이미 읽어 둔 게시글의 댓글 컬렉션을 같은 영속성 컨텍스트에서 채운다
+    @RestResource(exported = false)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select distinct a from Article a left join fetch a.articleComments c left join fetch c.userAccount where a.id in :ids")
+    List<Article> findAllWithCommentsByIdIn(Collection<Long> ids);
+
+    // 인덱스가 있는 컬럼은 앞부분 일치와 범위 검색으로 바인딩한다. (content 는 인덱스가 없어 ApiQueryCostGuardFilter 가 따로 제한)
+    // lower() 를 씌우면 인덱스를 못 타므로 앞부분 일치는 대소문자를 구분한다. (QuerydslBindingsTest)
     @Override
     default void customize(QuerydslBindings bindings, QArticle root){
         bindings.excludeUnlistedProperties(true);
         bindings.including(root.title, root.content, root.hashtags, root.createdAt, root.createdBy);
         bindings.bind(root.content).first(StringExpression::containsIgnoreCase);
-        bindings.bind(root.title).first(StringExpression::containsIgnoreCase);
-        bindings.bind(root.hashtags.any().hashtagName).first(StringExpression::containsIgnoreCase);
-        bindings.bind(root.createdAt).first(DateTimeExpression::eq);
-        bindings.bind(root.createdBy).first(StringExpression::containsIgnoreCase);
+        bindings.bind(root.title).first(StringExpression::startsWith);
+        bindings.bind(root.hashtags.any().hashtagName).first(StringExpression::startsWith);
+        bindings.bind(root.createdAt).all(QuerydslRangeBindings::between);
+        bindings.bind(root.createdBy).first(StringExpression::startsWith);
     }
 }
@@ -2,9 +2,13 @@ package com.fastcampus.fastcampusprojectboard.repository;
 
 import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
 import com.fastcampus.fastcampusprojectboard.repository.querydsl.HashtagRepositoryCustom;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -17,4 +21,9 @@ public interface HashtagRepository extends
     Optional<Hashtag> findByHashtagName(String hashtagName);
 
     List<Hashtag> findByHashtagNameIn(Set<String> hashtagNames);
+
+    // 방금 upsert 한 해시태그를 최신 커밋 기준으로 읽고, 게시글이 붙기 전에 다른 트랜잭션이 지우지 못하게 공유 락을 건다
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("select h from Hashtag h where h.hashtagName in :hashtagNames")
+    List<Hashtag> findAllForShareByHashtagNameIn(Collection<String> hashtagNames);
 }
@@ -0,0 +1,28 @@
+package com.fastcampus.fastcampusprojectboard.repository;
+
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.DateTimePath;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Querydsl 웹 바인딩에서 같은 파라미터를 두 번 주면 범위 검색으로 바꿔주는 헬퍼.
+ * 예: {@code ?createdAt=2024-01-01T00:00:00&createdAt=2024-02-01T00:00:00}
+ */
+final class QuerydslRangeBindings {
+
+    private QuerydslRangeBindings() {}
+
+    static Optional<Predicate> between(DateTimePath<LocalDateTime> path, Collection<? extends LocalDateTime> values) {
+        List<? extends LocalDateTime> bounds = values.stream().sorted().toList();
+
+        return switch (bounds.size()) {
+            case 0 -> Optional.empty();
+            case 1 -> Optional.of(path.eq(bounds.get(0)));
+            default -> Optional.of(path.between(bounds.get(0), bounds.get(bounds.size() - 1)));
+        };
+    }
+}
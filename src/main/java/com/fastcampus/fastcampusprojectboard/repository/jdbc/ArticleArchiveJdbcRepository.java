@@ -0,0 +1,76 @@
+package com.fastcampus.fastcampusprojectboard.repository.jdbc;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 오래된 게시글을 댓글, article_hashtag 행과 함께 보관 테이블로 옮기는 JDBC 저장소.
+ * 엔티티를 하나씩 읽지 않고 {@code INSERT ... SELECT} 와 {@code DELETE} 로 배치 단위로 옮긴다.
+ * 한 배치의 메서드들은 ArticleArchiveService 가 연 한 트랜잭션 안에서 불러야 한다.
+ */
+@Repository
+public class ArticleArchiveJdbcRepository {
+
+    private static final String COPY_ARTICLES =
+            "INSERT INTO article_archive (id, user_id, title, content, view_count, created_at, created_by, modified_at, modified_by, archived_at) " +
+                    "SELECT id, user_id, title, content, view_count, created_at, created_by, modified_at, modified_by, :archivedAt " +
+                    "FROM article WHERE id IN (:articleIds)";
+    private static final String COPY_ARTICLE_COMMENTS =
+            "INSERT INTO article_comment_archive (id, article_id, user_id, parent_comment_id, content, created_at, created_by, modified_at, modified_by) " +
+                    "SELECT id, article_id, user_id, parent_comment_id, content, created_at, created_by, modified_at, modified_by " +
+                    "FROM article_comment WHERE article_id IN (:articleIds)";
+    private static final String COPY_ARTICLE_HASHTAGS =
+            "INSERT INTO article_hashtag_archive (article_id, hashtag_id) " +
+                    "SELECT article_id, hashtag_id FROM article_hashtag WHERE article_id IN (:articleIds)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ArticleArchiveJdbcRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * {@code createdBefore} 보다 먼저 쓴 게시글 ID 를 오래된 순서로 골라 트랜잭션이 끝날 때까지 잠근다.
+     * 그 사이 수정되거나 댓글이 달리지 않고, 다른 노드의 보관 작업은 이 배치가 끝난 뒤 남은 글을 고른다.
+     */
+    public List<Long> lockArticleIdsCreatedBefore(LocalDateTime createdBefore, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM article WHERE created_at < ? ORDER BY created_at, id LIMIT ? FOR UPDATE",
+                Long.class, Timestamp.valueOf(createdBefore), limit);
+    }
+
+    /**
+     * 게시글, 댓글, article_hashtag 행을 보관 테이블에 복사하고 원래 테이블에서 지운다.
+     * 보관 테이블의 외래 키 순서(게시글 → 댓글, 해시태그)로 넣고, 반대 순서로 지운다.
+     *
+     * @return 옮긴 게시글 수
+     */
+    public int moveArticles(Collection<Long> articleIds, LocalDateTime archivedAt) {
+        if (articleIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("articleIds", articleIds)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        int moved = namedParameterJdbcTemplate.update(COPY_ARTICLES, params);
+        namedParameterJdbcTemplate.update(COPY_ARTICLE_COMMENTS, params);
+        namedParameterJdbcTemplate.update(COPY_ARTICLE_HASHTAGS, params);
+
+        namedParameterJdbcTemplate.update("DELETE FROM article_hashtag WHERE article_id IN (:articleIds)", params);
+        namedParameterJdbcTemplate.update("DELETE FROM article_comment WHERE article_id IN (:articleIds)", params);
+        namedParameterJdbcTemplate.update("DELETE FROM article WHERE id IN (:articleIds)", params);
+
+        return moved;
+    }
+}
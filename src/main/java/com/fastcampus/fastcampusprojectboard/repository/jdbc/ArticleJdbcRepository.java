@@ -0,0 +1,126 @@
+package com.fastcampus.fastcampusprojectboard.repository.jdbc;
+
+import com.fastcampus.fastcampusprojectboard.dto.request.ArticleImportRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대량 등록 전용 JDBC 저장소. 엔티티를 거치지 않고 batch insert 로 게시글과 article_hashtag 행을 쓴다.
+ * PostgreSQL 은 reWriteBatchedInserts, MySQL 은 rewriteBatchedStatements 옵션을 켜면 multi-row insert 로 바뀐다.
+ */
+@Repository
+public class ArticleJdbcRepository {
+
+    private static final String INSERT_ARTICLE =
+            "INSERT INTO article (user_id, title, content, created_at, created_by, modified_at, modified_by) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ARTICLE_HASHTAG =
+            "INSERT INTO article_hashtag (article_id, hashtag_id) VALUES (?, ?)";
+    private static final String ADD_VIEW_COUNT =
+            "UPDATE article SET view_count = view_count + ? WHERE id = ?";
+    private static final String UPDATE_IMPORT_CHECKPOINT =
+            "UPDATE article_import_checkpoint SET consumed = ?, modified_at = ? WHERE source = ?";
+    private static final String INSERT_IMPORT_CHECKPOINT =
+            "INSERT INTO article_import_checkpoint (source, consumed, modified_at) VALUES (?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ArticleJdbcRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * @return 입력 순서대로 생성된 게시글 ID
+     */
+    public List<Long> insertArticles(List<ArticleImportRequest> articles) {
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_ARTICLE, new String[]{"id"})) {
+                for (ArticleImportRequest article : articles) {
+                    Timestamp createdAt = Timestamp.valueOf(article.createdAt());
+                    ps.setString(1, article.userId());
+                    ps.setString(2, article.title());
+                    ps.setString(3, article.content());
+                    ps.setTimestamp(4, createdAt);
+                    ps.setString(5, article.createdBy());
+                    ps.setTimestamp(6, createdAt);
+                    ps.setString(7, article.createdBy());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(articles.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != articles.size()) {
+                    throw new IllegalStateException("생성된 게시글 ID 수가 맞지 않습니다 - expected: " + articles.size() + ", actual: " + ids.size());
+                }
+                return ids;
+            }
+        });
+    }
+
+    public void insertArticleHashtags(List<long[]> articleIdAndHashtagIds) {
+        jdbcTemplate.batchUpdate(INSERT_ARTICLE_HASHTAG, articleIdAndHashtagIds, 1000, (ps, row) -> {
+            ps.setLong(1, row[0]);
+            ps.setLong(2, row[1]);
+        });
+    }
+
+    /**
+     * 게시글별 조회수 증가분을 batch update 로 한 번에 더한다. 그 사이 삭제된 게시글은 0건 갱신으로 지나간다.
+     * 여러 노드가 동시에 반영해도 교착 상태에 빠지지 않도록 게시글 ID 순서로 넘겨야 한다.
+     */
+    public void addViewCounts(Map<Long, Long> viewCountDeltas) {
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT, List.copyOf(viewCountDeltas.entrySet()), 1000, (ps, delta) -> {
+            ps.setLong(1, delta.getValue());
+            ps.setLong(2, delta.getKey());
+        });
+    }
+
+    public Set<String> findExistingUserIds(Collection<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(
+                "SELECT user_id FROM user_account WHERE user_id IN (:userIds)",
+                Map.of("userIds", userIds),
+                String.class
+        ));
+    }
+
+    /**
+     * @return 이 파일에서 이미 처리한 레코드 수, 처음이면 0
+     */
+    public long findImportCheckpoint(String source) {
+        List<Long> consumed = jdbcTemplate.queryForList(
+                "SELECT consumed FROM article_import_checkpoint WHERE source = ?", Long.class, source);
+        return consumed.isEmpty() ? 0L : consumed.get(0);
+    }
+
+    // 등록은 파일 하나를 한 프로세스가 처리하므로, 갱신할 행이 없을 때만 넣는다
+    public void saveImportCheckpoint(String source, long consumed, LocalDateTime now) {
+        Timestamp modifiedAt = Timestamp.valueOf(now);
+        if (jdbcTemplate.update(UPDATE_IMPORT_CHECKPOINT, consumed, modifiedAt, source) == 0) {
+            jdbcTemplate.update(INSERT_IMPORT_CHECKPOINT, source, consumed, modifiedAt);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.fastcampus.fastcampusprojectboard.repository.jdbc;
+
+import com.fastcampus.fastcampusprojectboard.repository.querydsl.HashtagRepositoryCustom;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 해시태그 upsert 전용 JDBC 저장소.
+ * 같은 새 해시태그가 동시에 저장되어도 unique 인덱스 충돌로 게시글 저장이 롤백되지 않도록,
+ * DB 가 지원하는 "충돌 시 무시" insert 를 한 번의 multi-row statement 로 실행한다.
+ */
+@Slf4j
+@Repository
+public class HashtagJdbcRepository {
+
+    private static final String COLUMNS = "(hashtag_name, created_at, created_by, modified_at, modified_by)";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?)";
+    private static final int CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+    private final InsertIgnoreDialect insertIgnoreDialect;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public HashtagJdbcRepository(DataSource dataSource, AuditorAware<String> auditorAware, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.auditorAware = auditorAware;
+        this.insertIgnoreDialect = InsertIgnoreDialect.detect(dataSource);
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * @return 이번에 실제로 넣은 해시태그 이름 (이미 있던 이름은 빠진다)
+     */
+    public Set<String> insertHashtagNamesIfAbsent(Collection<String> hashtagNames) {
+        // 이름순으로 넣어야 겹치는 해시태그를 동시에 넣는 트랜잭션끼리 교착 상태에 빠지지 않는다
+        List<String> sortedHashtagNames = hashtagNames.stream().sorted().toList();
+        Set<String> insertedHashtagNames = new HashSet<>();
+
+        for (int from = 0; from < sortedHashtagNames.size(); from += CHUNK_SIZE) {
+            insertedHashtagNames.addAll(insertChunkIfAbsent(sortedHashtagNames.subList(from, Math.min(from + CHUNK_SIZE, sortedHashtagNames.size()))));
+        }
+        evictHashtagNamesQueryCache();
+
+        return insertedHashtagNames;
+    }
+
+    public Map<String, Long> findIdsByHashtagNames(Collection<String> hashtagNames) {
+        List<String> names = List.copyOf(hashtagNames);
+        Map<String, Long> ids = new HashMap<>();
+
+        for (int from = 0; from < names.size(); from += CHUNK_SIZE) {
+            namedParameterJdbcTemplate.query(
+                    "SELECT id, hashtag_name FROM hashtag WHERE hashtag_name IN (:hashtagNames)",
+                    Map.of("hashtagNames", names.subList(from, Math.min(from + CHUNK_SIZE, names.size()))),
+                    (RowCallbackHandler) rs -> ids.put(rs.getString("hashtag_name"), rs.getLong("id"))
+            );
+        }
+
+        return ids;
+    }
+
+    private List<String> insertChunkIfAbsent(List<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String auditor = auditorAware.getCurrentAuditor().orElse("system");
+
+        return switch (insertIgnoreDialect) {
+            case ON_CONFLICT -> jdbcTemplate.queryForList(
+                    "INSERT INTO hashtag " + COLUMNS + " VALUES " + rows(hashtagNames) + " ON CONFLICT (hashtag_name) DO NOTHING RETURNING hashtag_name",
+                    String.class, rowParams(hashtagNames, now, auditor));
+            case INSERT_IGNORE -> insertIgnoreChunk(hashtagNames, now, auditor);
+            case NOT_EXISTS -> hashtagNames.stream()
+                    .filter(hashtagName -> insertIfAbsent(hashtagName, now, auditor))
+                    .toList();
+        };
+    }
+
+    /**
+     * MySQL 의 INSERT IGNORE 는 어느 행을 넣었는지 돌려주지 않으므로, 넣기 전에 이미 있던 이름을 빼고 넣는다.
+     * 넣은 행 수가 남은 이름 수와 같으면 그대로 돌려주고, 그 사이 다른 트랜잭션이 같은 이름을 넣어 모자라면 다시 조회해서 고른다.
+     * 재조회는 첫 조회의 스냅숏을 쓰는 기본 격리 수준(REPEATABLE READ)에서 다른 트랜잭션이 나중에 커밋한 행을 보지 않는다.
+     */
+    private List<String> insertIgnoreChunk(List<String> hashtagNames, Timestamp now, String auditor) {
+        Set<String> existingHashtagNames = findIdsByHashtagNames(hashtagNames).keySet();
+        List<String> candidates = hashtagNames.stream()
+                .filter(hashtagName -> !existingHashtagNames.contains(hashtagName))
+                .toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        int inserted = jdbcTemplate.update("INSERT IGNORE INTO hashtag " + COLUMNS + " VALUES " + rows(candidates), rowParams(candidates, now, auditor));
+        if (inserted == candidates.size()) {
+            return candidates;
+        }
+
+        log.debug("동시에 생성된 해시태그가 있어 넣은 이름을 다시 조회합니다 - expected: {}, inserted: {}", candidates.size(), inserted);
+        Set<String> visibleHashtagNames = findIdsByHashtagNames(candidates).keySet();
+        return candidates.stream()
+                .filter(visibleHashtagNames::contains)
+                .toList();
+    }
+
+    private static String rows(List<String> hashtagNames) {
+        return String.join(", ", Collections.nCopies(hashtagNames.size(), ROW_PLACEHOLDER));
+    }
+
+    private static Object[] rowParams(List<String> hashtagNames, Timestamp now, String auditor) {
+        List<Object> params = new ArrayList<>(hashtagNames.size() * 5);
+        hashtagNames.forEach(hashtagName -> Collections.addAll(params, hashtagName, now, auditor, now, auditor));
+        return params.toArray();
+    }
+
+    //upsert 문법이 없는 DB(H2 등)용: 한 건씩 넣고, 먼저 커밋된 행과 충돌하면 무시한다
+    private boolean insertIfAbsent(String hashtagName, Timestamp now, String auditor) {
+        try {
+            return jdbcTemplate.update(
+                    "INSERT INTO hashtag " + COLUMNS + " SELECT ?, ?, ?, ?, ? WHERE NOT EXISTS (SELECT 1 FROM hashtag WHERE hashtag_name = ?)",
+                    hashtagName, now, auditor, now, auditor, hashtagName) == 1;
+        } catch (DuplicateKeyException e) {
+            log.debug("동시에 생성된 해시태그를 재사용합니다 - hashtagName: {}", hashtagName);
+            return false;
+        }
+    }
+
+    // JDBC 로 넣은 행은 Hibernate 가 모르므로 해시태그 이름 쿼리 캐시를 직접 비운다.
+    // 커밋 전에 비우면 그 사이 다른 트랜잭션이 옛 목록을 다시 캐시할 수 있어서 커밋 후에 비운다
+    private void evictHashtagNamesQueryCache() {
+        Runnable evict = () -> entityManagerFactory.unwrap(SessionFactory.class)
+                .getCache()
+                .evictQueryRegion(HashtagRepositoryCustom.HASHTAG_NAMES_CACHE_REGION);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,75 @@
+package com.fastcampus.fastcampusprojectboard.repository.jdbc;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * idempotency_record 전용 JDBC 저장소.
+ * 키 선점은 "충돌 시 무시" insert 한 번으로 한다. 같은 키를 동시에 선점하면 뒤의 insert 가 앞 트랜잭션이 끝날 때까지 기다렸다가
+ * 0건을 돌려주므로, 호출한 쪽은 커밋된 결과를 읽어서 그대로 돌려주면 된다.
+ */
+@Repository
+public class IdempotencyJdbcRepository {
+
+    private static final String COLUMNS = "(user_id, idempotency_key, created_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InsertIgnoreDialect insertIgnoreDialect;
+
+    public IdempotencyJdbcRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.insertIgnoreDialect = InsertIgnoreDialect.detect(dataSource);
+    }
+
+    /**
+     * @return 이 호출이 키를 처음 선점했으면 true
+     */
+    public boolean claim(String userId, String idempotencyKey, LocalDateTime now) {
+        Timestamp createdAt = Timestamp.valueOf(now);
+
+        return switch (insertIgnoreDialect) {
+            case ON_CONFLICT -> jdbcTemplate.update(
+                    "INSERT INTO idempotency_record " + COLUMNS + " VALUES (?, ?, ?) ON CONFLICT (user_id, idempotency_key) DO NOTHING",
+                    userId, idempotencyKey, createdAt) == 1;
+            case INSERT_IGNORE -> jdbcTemplate.update(
+                    "INSERT IGNORE INTO idempotency_record " + COLUMNS + " VALUES (?, ?, ?)",
+                    userId, idempotencyKey, createdAt) == 1;
+            case NOT_EXISTS -> claimIfAbsent(userId, idempotencyKey, createdAt);
+        };
+    }
+
+    public Optional<String> findResponse(String userId, String idempotencyKey) {
+        return jdbcTemplate.query(
+                "SELECT response FROM idempotency_record WHERE user_id = ? AND idempotency_key = ?",
+                rs -> rs.next() ? Optional.ofNullable(rs.getString("response")) : Optional.empty(),
+                userId, idempotencyKey);
+    }
+
+    public void saveResponse(String userId, String idempotencyKey, String response) {
+        jdbcTemplate.update(
+                "UPDATE idempotency_record SET response = ? WHERE user_id = ? AND idempotency_key = ?",
+                response, userId, idempotencyKey);
+    }
+
+    public int deleteCreatedBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update("DELETE FROM idempotency_record WHERE created_at < ?", Timestamp.valueOf(threshold));
+    }
+
+    //upsert 문법이 없는 DB(H2 등)용: 먼저 커밋된 행과 충돌하면 선점하지 못한 것으로 본다
+    private boolean claimIfAbsent(String userId, String idempotencyKey, Timestamp createdAt) {
+        try {
+            return jdbcTemplate.update(
+                    "INSERT INTO idempotency_record " + COLUMNS + " SELECT ?, ?, ? WHERE NOT EXISTS " +
+                            "(SELECT 1 FROM idempotency_record WHERE user_id = ? AND idempotency_key = ?)",
+                    userId, idempotencyKey, createdAt, userId, idempotencyKey) == 1;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
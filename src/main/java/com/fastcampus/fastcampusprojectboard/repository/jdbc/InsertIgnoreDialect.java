@@ -0,0 +1,42 @@
+package com.fastcampus.fastcampusprojectboard.repository.jdbc;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+
+/**
+ * unique 키가 충돌하면 예외 대신 0건으로 끝나는 "충돌 시 무시" insert 를 DB 가 어떤 문법으로 지원하는지.
+ * JDBC 저장소는 생성할 때 한 번 {@link #detect(DataSource)} 로 정하고, 이 값으로 SQL 을 고른다.
+ */
+@Slf4j
+enum InsertIgnoreDialect {
+
+    /** PostgreSQL: {@code INSERT ... ON CONFLICT DO NOTHING}, {@code RETURNING} 으로 넣은 행을 돌려받을 수 있다 */
+    ON_CONFLICT,
+    /** MySQL, MariaDB: {@code INSERT IGNORE}, 넣은 행 수만 알 수 있다 */
+    INSERT_IGNORE,
+    /** upsert 문법이 없는 DB(H2 등): {@code INSERT ... SELECT ... WHERE NOT EXISTS} 를 한 건씩, 동시에 넣어 충돌하면 무시한다 */
+    NOT_EXISTS;
+
+    static InsertIgnoreDialect detect(DataSource dataSource) {
+        return switch (detectDatabaseDriver(dataSource)) {
+            case POSTGRESQL -> ON_CONFLICT;
+            case MYSQL, MARIADB -> INSERT_IGNORE;
+            default -> NOT_EXISTS;
+        };
+    }
+
+    private static DatabaseDriver detectDatabaseDriver(DataSource dataSource) {
+        try {
+            String productName = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return DatabaseDriver.fromProductName(productName);
+        } catch (MetaDataAccessException e) {
+            log.warn("DB 종류를 확인할 수 없어 기본 insert 방식을 사용합니다 - {}", e.getLocalizedMessage());
+            return DatabaseDriver.UNKNOWN;
+        }
+    }
+}
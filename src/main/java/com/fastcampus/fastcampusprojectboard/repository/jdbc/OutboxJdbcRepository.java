@@ -0,0 +1,138 @@
+package com.fastcampus.fastcampusprojectboard.repository.jdbc;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
+import com.fastcampus.fastcampusprojectboard.domain.constant.ChangeType;
+import com.fastcampus.fastcampusprojectboard.outbox.ChangeEvent;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * outbox_event, outbox_offset 전용 JDBC 저장소.
+ * 이벤트는 바뀐 행과 같은 트랜잭션에서 넣고, 순번 매기기와 소비자 위치 갱신은 OutboxRelay 가 연 트랜잭션 안에서 부른다.
+ */
+@Repository
+public class OutboxJdbcRepository {
+
+    /**
+     * 마지막으로 매긴 순번을 들고 있는 outbox_offset 행. 이 행을 잠근 노드만 순번을 매긴다.
+     */
+    public static final String SEQUENCER = "#sequencer";
+
+    private static final String INSERT_EVENT =
+            "INSERT INTO outbox_event (aggregate_type, aggregate_id, change_type, created_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxJdbcRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    public void insertEvents(Collection<ChangeEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            insertEvents(connection, events);
+            return null;
+        });
+    }
+
+    /**
+     * Hibernate 가 커밋 직전에 세션의 커넥션으로 이벤트를 넣을 때도 쓴다.
+     */
+    public static void insertEvents(Connection connection, Collection<ChangeEvent> events) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(INSERT_EVENT)) {
+            for (ChangeEvent event : events) {
+                ps.setString(1, event.aggregateType().name());
+                ps.setLong(2, event.aggregateId());
+                ps.setString(3, event.changeType().name());
+                ps.setTimestamp(4, Timestamp.valueOf(event.createdAt()));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    /**
+     * 커밋된 이벤트 중 순번이 없는 것에 id 순서대로 순번을 매긴다.
+     * 늦게 커밋된 이벤트는 id 가 작아도 뒤 순번을 받으므로, 순번 순서가 곧 커밋 순서다.
+     *
+     * @return 순번을 매긴 이벤트 수
+     */
+    public int assignSequence(int limit) {
+        long lastSeq = lockOffset(SEQUENCER);
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM outbox_event WHERE seq IS NULL ORDER BY id LIMIT ?", Long.class, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        List<long[]> seqAndIds = new ArrayList<>(ids.size());
+        for (long id : ids) {
+            seqAndIds.add(new long[]{++lastSeq, id});
+        }
+        jdbcTemplate.batchUpdate("UPDATE outbox_event SET seq = ? WHERE id = ?", seqAndIds, 1000, (ps, row) -> {
+            ps.setLong(1, row[0]);
+            ps.setLong(2, row[1]);
+        });
+        saveOffset(SEQUENCER, lastSeq);
+
+        return ids.size();
+    }
+
+    public List<ChangeEvent> findEventsAfter(long seq, int limit) {
+        return jdbcTemplate.query(
+                "SELECT seq, aggregate_type, aggregate_id, change_type, created_at FROM outbox_event WHERE seq > ? ORDER BY seq LIMIT ?",
+                (rs, rowNum) -> new ChangeEvent(
+                        rs.getLong("seq"),
+                        AggregateType.valueOf(rs.getString("aggregate_type")),
+                        rs.getLong("aggregate_id"),
+                        ChangeType.valueOf(rs.getString("change_type")),
+                        rs.getTimestamp("created_at").toLocalDateTime()
+                ),
+                seq, limit);
+    }
+
+    /**
+     * 소비자 위치 행을 트랜잭션이 끝날 때까지 잠그고 마지막으로 받은 순번을 돌려준다.
+     */
+    public long lockOffset(String consumerName) {
+        Long lastSeq = jdbcTemplate.queryForObject(
+                "SELECT last_seq FROM outbox_offset WHERE consumer_name = ? FOR UPDATE", Long.class, consumerName);
+        return lastSeq == null ? 0 : lastSeq;
+    }
+
+    /**
+     * 처음 보는 소비자는 지금까지 매긴 순번 다음부터 받는다. 지난 이벤트를 처음부터 다시 받지는 않는다.
+     * 다른 노드가 동시에 만들면 DuplicateKeyException 이 날 수 있으니 따로 연 트랜잭션에서 부른다.
+     */
+    public void createOffsetIfAbsent(String consumerName) {
+        jdbcTemplate.update(
+                "INSERT INTO outbox_offset (consumer_name, last_seq, modified_at) " +
+                        "SELECT ?, COALESCE((SELECT last_seq FROM outbox_offset WHERE consumer_name = ?), 0), ? " +
+                        "WHERE NOT EXISTS (SELECT 1 FROM outbox_offset WHERE consumer_name = ?)",
+                consumerName, SEQUENCER, Timestamp.valueOf(LocalDateTime.now()), consumerName);
+    }
+
+    public void saveOffset(String consumerName, long lastSeq) {
+        jdbcTemplate.update(
+                "UPDATE outbox_offset SET last_seq = ?, modified_at = ? WHERE consumer_name = ?",
+                lastSeq, Timestamp.valueOf(LocalDateTime.now()), consumerName);
+    }
+
+    public int deleteEventsCreatedBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update(
+                "DELETE FROM outbox_event WHERE seq IS NOT NULL AND created_at < ?", Timestamp.valueOf(threshold));
+    }
+}
@@ -1,8 +1,10 @@
 package com.fastcampus.fastcampusprojectboard.repository.querydsl;
 
 import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.querydsl.core.types.Predicate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.util.Collection;
 import java.util.List;
@@ -13,4 +15,9 @@ public interface ArticleRepositoryCustom {
     List<String> findAllDistinctHashtags();
 
     Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable);
+
+    /**
+     * count 쿼리 없이 offset/limit 구간만 읽는다. 목록 화면을 청크 단위로 스트리밍할 때 쓴다.
+     */
+    List<Article> findChunk(Predicate predicate, Sort sort, long offset, int limit);
 }
@@ -2,11 +2,12 @@ package com.fastcampus.fastcampusprojectboard.repository.querydsl;
 
 import com.fastcampus.fastcampusprojectboard.domain.Article;
 import com.fastcampus.fastcampusprojectboard.domain.QArticle;
-import com.fastcampus.fastcampusprojectboard.domain.QHashtag;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.JPQLQuery;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
 import java.util.Collection;
@@ -28,16 +29,27 @@ public class ArticleRepositoryCustomImpl extends QuerydslRepositorySupport imple
                 .fetch();
     }
 
+    // 해시태그를 조인하면 찾는 해시태그가 여럿 붙은 글이 그 수만큼 나오므로, exists 로 걸러 글마다 한 행만 남긴다
     @Override
     public Page<Article> findByHashtagNames(Collection<String> hashtagNames, Pageable pageable) {
-        QHashtag hashtag = QHashtag.hashtag;
         QArticle article = QArticle.article;
 
         JPQLQuery<Article> query = from(article)
-                .innerJoin(article.hashtags, hashtag)
-                .where(hashtag.hashtagName.in(hashtagNames));
+                .where(article.hashtags.any().hashtagName.in(hashtagNames));
         List<Article> articles = getQuerydsl().applyPagination(pageable, query).fetch();
 
         return new PageImpl<>(articles, pageable, query.fetchCount());
     }
+
+    @Override
+    public List<Article> findChunk(Predicate predicate, Sort sort, long offset, int limit) {
+        QArticle article = QArticle.article;
+
+        JPQLQuery<Article> query = from(article).where(predicate);
+
+        return getQuerydsl().applySorting(sort, query)
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
 }
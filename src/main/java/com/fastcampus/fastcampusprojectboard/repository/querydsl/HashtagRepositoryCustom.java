@@ -1,7 +1,22 @@
 package com.fastcampus.fastcampusprojectboard.repository.querydsl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface HashtagRepositoryCustom {
+    /**
+     * {@link #findAllHashtagNames()} 결과를 담는 쿼리 캐시 영역.
+     * JPA 를 거치지 않고 해시태그를 넣으면 Hibernate 가 변경을 모르므로 직접 비워야 한다.
+     */
+    String HASHTAG_NAMES_CACHE_REGION = "hashtagNames";
+
     List<String> findAllHashtagNames();
+
+    /**
+     * 게시글({@code excludedArticleId} 제외)이나 보관된 게시글이 쓰고 있는 해시태그 ID.
+     */
+    Set<Long> findHashtagIdsInUse(Collection<Long> hashtagIds, Long excludedArticleId);
+
+    Set<Long> findArchivedHashtagIds(Collection<Long> hashtagIds);
 }
@@ -1,10 +1,17 @@
 package com.fastcampus.fastcampusprojectboard.repository.querydsl;
 
 import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+import com.fastcampus.fastcampusprojectboard.domain.QArchivedArticle;
+import com.fastcampus.fastcampusprojectboard.domain.QArticle;
 import com.fastcampus.fastcampusprojectboard.domain.QHashtag;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.support.QuerydslRepositorySupport;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport implements HashtagRepositoryCustom {
 
@@ -16,8 +23,42 @@ public class HashtagRepositoryCustomImpl extends QuerydslRepositorySupport imple
     public List<String> findAllHashtagNames() {
         QHashtag hashtag = QHashtag.hashtag;
 
-        return from(hashtag)
+        // from() 이 돌려주는 JPQLQuery 에는 힌트 API 가 없어서 JPAQuery 를 직접 만든다
+        return new JPAQuery<>(getEntityManager())
+                .from(hashtag)
                 .select(hashtag.hashtagName)
+                .setHint(AvailableHints.HINT_CACHEABLE, true)
+                .setHint(AvailableHints.HINT_CACHE_REGION, HASHTAG_NAMES_CACHE_REGION)
                 .fetch();
     }
+
+    @Override
+    public Set<Long> findHashtagIdsInUse(Collection<Long> hashtagIds, Long excludedArticleId) {
+        QArticle article = QArticle.article;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        Set<Long> hashtagIdsInUse = new HashSet<>(from(article)
+                .innerJoin(article.hashtags, hashtag)
+                .where(hashtag.id.in(hashtagIds), article.id.ne(excludedArticleId))
+                .select(hashtag.id)
+                .distinct()
+                .fetch());
+        hashtagIdsInUse.addAll(findArchivedHashtagIds(hashtagIds));
+
+        return hashtagIdsInUse;
+    }
+
+    // article_hashtag_archive 가 해시태그를 참조하므로, 보관된 글에만 남은 해시태그도 지우면 안 된다
+    @Override
+    public Set<Long> findArchivedHashtagIds(Collection<Long> hashtagIds) {
+        QArchivedArticle archivedArticle = QArchivedArticle.archivedArticle;
+        QHashtag hashtag = QHashtag.hashtag;
+
+        return new HashSet<>(from(archivedArticle)
+                .innerJoin(archivedArticle.hashtags, hashtag)
+                .where(hashtag.id.in(hashtagIds))
+                .select(hashtag.id)
+                .distinct()
+                .fetch());
+    }
 }
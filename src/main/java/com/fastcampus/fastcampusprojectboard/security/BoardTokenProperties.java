@@ -0,0 +1,25 @@
+package com.fastcampus.fastcampusprojectboard.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 세션 없이 서명된 쿠키로 로그인 상태를 유지하는 stateless 모드 설정.
+ * {@code keys} 에는 검증에 쓸 모든 키를, {@code activeKeyId} 에는 새 토큰 서명에 쓸 키를 둔다.
+ * 키를 교체할 때는 새 키를 추가하고 activeKeyId 를 바꾼 뒤, ttl 이 지나면 이전 키를 지운다.
+ */
+@ConfigurationProperties("board.security.token")
+public record BoardTokenProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("BOARD_TOKEN") String cookieName,
+        @DefaultValue("8h") Duration ttl,
+        String activeKeyId,
+        Map<String, String> keys
+) {
+    public BoardTokenProperties {
+        keys = keys == null ? Map.of() : Map.copyOf(keys);
+    }
+}
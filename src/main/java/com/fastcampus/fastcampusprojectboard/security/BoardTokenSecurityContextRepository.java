@@ -0,0 +1,75 @@
+package com.fastcampus.fastcampusprojectboard.security;
+
+import com.fastcampus.fastcampusprojectboard.dto.security.BoardPrincipal;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.HttpRequestResponseHolder;
+import org.springframework.security.web.context.SecurityContextRepository;
+import org.springframework.web.util.WebUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * HTTP 세션 대신 서명된 쿠키에 인증 정보를 담는 {@link SecurityContextRepository}.
+ * 폼 로그인과 OAuth2 로그인 모두 인증에 성공하면 이 저장소를 통해 쿠키를 발급받는다.
+ */
+@RequiredArgsConstructor
+public class BoardTokenSecurityContextRepository implements SecurityContextRepository {
+
+    private final BoardTokenService boardTokenService;
+
+    @Override
+    public SecurityContext loadContext(HttpRequestResponseHolder requestResponseHolder) {
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+
+        readToken(requestResponseHolder.getRequest())
+                .flatMap(boardTokenService::verify)
+                .ifPresent(principal -> context.setAuthentication(
+                        UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.authorities())
+                ));
+
+        return context;
+    }
+
+    @Override
+    public void saveContext(SecurityContext context, HttpServletRequest request, HttpServletResponse response) {
+        Authentication authentication = context.getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof BoardPrincipal principal) {
+            writeCookie(request, response, boardTokenService.issue(principal), boardTokenService.properties().ttl());
+        } else if (containsContext(request)) {
+            writeCookie(request, response, "", Duration.ZERO);
+        }
+    }
+
+    @Override
+    public boolean containsContext(HttpServletRequest request) {
+        return readToken(request).isPresent();
+    }
+
+    private Optional<String> readToken(HttpServletRequest request) {
+        return Optional.ofNullable(WebUtils.getCookie(request, boardTokenService.properties().cookieName()))
+                .map(Cookie::getValue)
+                .filter(value -> !value.isBlank());
+    }
+
+    private void writeCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(boardTokenService.properties().cookieName(), value)
+                .path("/")
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
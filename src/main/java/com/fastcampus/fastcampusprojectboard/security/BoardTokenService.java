@@ -0,0 +1,160 @@
+package com.fastcampus.fastcampusprojectboard.security;
+
+import com.fastcampus.fastcampusprojectboard.dto.security.BoardPrincipal;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * HMAC-SHA256 으로 서명한 토큰을 발급/검증한다.
+ * 토큰 형식: {@code keyId.expiresAt(epoch seconds).base64url(payload).base64url(signature)}
+ * 어느 노드에서든 같은 키만 있으면 세션 저장소나 DB 조회 없이 검증할 수 있다.
+ * <p>
+ * 서명에는 토큰의 용도({@link Purpose})도 넣는다. 같은 키로 봉인한 OAuth2 인가 요청 쿠키를 로그인 토큰으로 바꿔 내밀어도 서명이 맞지 않는다.
+ */
+@Slf4j
+@Component
+public class BoardTokenService {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final int PRINCIPAL_FIELD_COUNT = 3;
+    private static final int MIN_KEY_BYTES = 32; // HMAC-SHA256 출력 길이보다 짧은 키는 쓰지 않는다
+    private static final String FORMER_DEFAULT_KEY = "local-development-only-signing-key-change-me"; // 예전 application.yaml 기본값, 저장소에 공개돼 있다
+
+    public enum Purpose {
+        LOGIN,
+        OAUTH2_AUTHORIZATION_REQUEST
+    }
+
+    private final BoardTokenProperties properties;
+    private final Map<String, SecretKeySpec> signingKeys;
+    private final Clock clock;
+
+    @Autowired
+    public BoardTokenService(BoardTokenProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    BoardTokenService(BoardTokenProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        this.signingKeys = properties.keys().entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        entry -> new SecretKeySpec(entry.getValue().getBytes(StandardCharsets.UTF_8), ALGORITHM)
+                ));
+
+        if (properties.enabled()) {
+            validateKeys(properties);
+        }
+    }
+
+    // 검증에 쓰는 키는 모두 위조 토큰을 받아들일 수 있으므로, 새 토큰 서명용 키만이 아니라 전부 확인한다
+    private static void validateKeys(BoardTokenProperties properties) {
+        String activeKey = properties.keys().get(properties.activeKeyId());
+        if (activeKey == null || activeKey.isBlank()) {
+            throw new IllegalStateException("board.security.token.active-key-id 에 해당하는 키가 없습니다 - activeKeyId: " + properties.activeKeyId());
+        }
+        properties.keys().forEach((keyId, key) -> {
+            if (FORMER_DEFAULT_KEY.equals(key)) {
+                throw new IllegalStateException("공개된 예전 기본 서명 키는 쓸 수 없습니다 - keyId: " + keyId);
+            }
+            if (key.getBytes(StandardCharsets.UTF_8).length < MIN_KEY_BYTES) {
+                throw new IllegalStateException("서명 키는 " + MIN_KEY_BYTES + " 바이트 이상이어야 합니다 - keyId: " + keyId);
+            }
+        });
+    }
+
+    public String issue(BoardPrincipal principal) {
+        String payload = String.join(String.valueOf(FIELD_SEPARATOR),
+                principal.username(),
+                nullToEmpty(principal.email()),
+                nullToEmpty(principal.nickname()));
+
+        return seal(Purpose.LOGIN, payload.getBytes(StandardCharsets.UTF_8), properties.ttl());
+    }
+
+    public Optional<BoardPrincipal> verify(String token) {
+        return unseal(Purpose.LOGIN, token).flatMap(payload -> {
+            String[] fields = new String(payload, StandardCharsets.UTF_8).split(String.valueOf(FIELD_SEPARATOR), -1);
+            if (fields.length != PRINCIPAL_FIELD_COUNT || fields[0].isEmpty()) {
+                log.debug("인증 주체 형식이 아닌 토큰입니다 - fields: {}", fields.length);
+                return Optional.empty();
+            }
+            return Optional.of(BoardPrincipal.of(fields[0], null, emptyToNull(fields[1]), emptyToNull(fields[2]), null));
+        });
+    }
+
+    public String seal(Purpose purpose, byte[] payload, Duration ttl) {
+        String keyId = properties.activeKeyId();
+        long expiresAt = clock.instant().plus(ttl).getEpochSecond();
+        String unsigned = keyId + "." + expiresAt + "." + ENCODER.encodeToString(payload);
+
+        return unsigned + "." + ENCODER.encodeToString(sign(signingKeys.get(keyId), purpose, unsigned));
+    }
+
+    /**
+     * 서명, 만료, 용도가 모두 맞을 때만 payload 를 돌려준다.
+     */
+    public Optional<byte[]> unseal(Purpose purpose, String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        String[] parts = token.split("\\.");
+        if (parts.length != 4) {
+            return Optional.empty();
+        }
+
+        SecretKeySpec key = signingKeys.get(parts[0]);
+        if (key == null) {
+            log.debug("알 수 없는 키로 서명된 토큰입니다 - keyId: {}", parts[0]);
+            return Optional.empty();
+        }
+
+        try {
+            String unsigned = parts[0] + "." + parts[1] + "." + parts[2];
+            if (!MessageDigest.isEqual(sign(key, purpose, unsigned), DECODER.decode(parts[3]))) {
+                return Optional.empty();
+            }
+            if (Long.parseLong(parts[1]) < clock.instant().getEpochSecond()) {
+                return Optional.empty();
+            }
+            return Optional.of(DECODER.decode(parts[2]));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    public BoardTokenProperties properties() {
+        return properties;
+    }
+
+    private static byte[] sign(SecretKeySpec key, Purpose purpose, String data) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal((purpose.name() + ":" + data).getBytes(StandardCharsets.US_ASCII));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("토큰 서명에 실패했습니다", e);
+        }
+    }
+
+    private static String nullToEmpty(String value) { return value == null ? "" : value; }
+    private static String emptyToNull(String value) { return value.isEmpty() ? null : value; }
+}
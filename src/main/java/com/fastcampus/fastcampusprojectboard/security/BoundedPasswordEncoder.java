@@ -0,0 +1,127 @@
+package com.fastcampus.fastcampusprojectboard.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * bcrypt 같은 무거운 해시 연산을 크기가 제한된 전용 풀에서 실행하는 {@link PasswordEncoder}.
+ * 로그인이 몰려도 해시 연산이 Tomcat 요청 스레드 전체를 CPU 에 묶어두지 못하게 하고,
+ * 대기열이 가득 차면 기다리지 않고 바로 거절한다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeout = properties.timeout();
+        this.executor = new ThreadPoolExecutor(
+                properties.effectivePoolSize(),
+                properties.effectivePoolSize(),
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                daemonThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        this.encodeTimer = hashTimer("encode", meterRegistry);
+        this.matchesTimer = hashTimer("matches", meterRegistry);
+        this.queueWaitTimer = Timer.builder("board.password.hashing.queue.wait")
+                .description("해시 풀 대기열에서 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("board.password.hashing.rejected")
+                .description("풀 포화나 시간 초과로 거절된 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("board.password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("board.password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword), encodeTimer);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword), matchesTimer);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T execute(Supplier<T> hashing, Timer hashTimer) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return hashTimer.record(hashing);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("비밀번호 확인 요청이 많아 잠시 후 다시 시도해주세요.", e);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new PasswordHashingRejectedException("비밀번호 확인이 제한 시간 안에 끝나지 않았습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingRejectedException("비밀번호 확인 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static Timer hashTimer(String operation, MeterRegistry meterRegistry) {
+        return Timer.builder("board.password.hashing")
+                .description("비밀번호 해시 연산 시간")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private static CustomizableThreadFactory daemonThreadFactory() {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        return threadFactory;
+    }
+}
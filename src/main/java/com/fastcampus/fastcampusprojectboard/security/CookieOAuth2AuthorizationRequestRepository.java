@@ -0,0 +1,83 @@
+package com.fastcampus.fastcampusprojectboard.security;
+
+import com.fastcampus.fastcampusprojectboard.security.BoardTokenService.Purpose;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.oauth2.client.web.AuthorizationRequestRepository;
+import org.springframework.security.oauth2.core.endpoint.OAuth2AuthorizationRequest;
+import org.springframework.util.SerializationUtils;
+import org.springframework.web.util.WebUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 카카오 로그인 중의 OAuth2 인가 요청을 세션 대신 서명된 쿠키에 보관한다.
+ * 콜백이 다른 노드로 들어와도 같은 키로 검증해서 이어갈 수 있다.
+ */
+@RequiredArgsConstructor
+public class CookieOAuth2AuthorizationRequestRepository implements AuthorizationRequestRepository<OAuth2AuthorizationRequest> {
+
+    private static final String COOKIE_NAME = "BOARD_OAUTH2_AUTH_REQUEST";
+    private static final Duration TTL = Duration.ofMinutes(3);
+
+    private final BoardTokenService boardTokenService;
+
+    @Override
+    public OAuth2AuthorizationRequest loadAuthorizationRequest(HttpServletRequest request) {
+        return Optional.ofNullable(WebUtils.getCookie(request, COOKIE_NAME))
+                .map(Cookie::getValue)
+                .flatMap(token -> boardTokenService.unseal(Purpose.OAUTH2_AUTHORIZATION_REQUEST, token))
+                .map(CookieOAuth2AuthorizationRequestRepository::deserialize)
+                .orElse(null);
+    }
+
+    @Override
+    public void saveAuthorizationRequest(OAuth2AuthorizationRequest authorizationRequest,
+                                         HttpServletRequest request,
+                                         HttpServletResponse response) {
+        if (authorizationRequest == null) {
+            writeCookie(request, response, "", Duration.ZERO);
+            return;
+        }
+
+        String token = boardTokenService.seal(Purpose.OAUTH2_AUTHORIZATION_REQUEST, SerializationUtils.serialize(authorizationRequest), TTL);
+        writeCookie(request, response, token, TTL);
+    }
+
+    @Override
+    public OAuth2AuthorizationRequest removeAuthorizationRequest(HttpServletRequest request, HttpServletResponse response) {
+        OAuth2AuthorizationRequest authorizationRequest = loadAuthorizationRequest(request);
+        writeCookie(request, response, "", Duration.ZERO);
+
+        return authorizationRequest;
+    }
+
+    // 서명 검증을 통과한 바이트만 역직렬화한다
+    private static OAuth2AuthorizationRequest deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (OAuth2AuthorizationRequest) in.readObject();
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            return null;
+        }
+    }
+
+    private void writeCookie(HttpServletRequest request, HttpServletResponse response, String value, Duration maxAge) {
+        ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, value)
+                .path("/")
+                .httpOnly(true)
+                .secure(request.isSecure())
+                .sameSite("Lax")
+                .maxAge(maxAge)
+                .build();
+
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
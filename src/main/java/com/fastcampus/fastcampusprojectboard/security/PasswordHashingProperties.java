@@ -0,0 +1,21 @@
+package com.fastcampus.fastcampusprojectboard.security;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀 설정.
+ * {@code poolSize} 가 0 이하면 CPU 코어 수를 쓴다.
+ */
+@ConfigurationProperties("board.security.password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("0") int poolSize,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("3s") Duration timeout
+) {
+    public int effectivePoolSize() {
+        return poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,14 @@
+package com.fastcampus.fastcampusprojectboard.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 풀이 포화 상태라 요청을 바로 거절했을 때 던진다.
+ * 인증 실패로 처리되어 로그인 화면으로 돌아가고, 요청 스레드를 오래 붙잡지 않는다.
+ */
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
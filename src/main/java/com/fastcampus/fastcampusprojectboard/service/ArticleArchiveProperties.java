@@ -0,0 +1,18 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 게시글 보관 설정. 쓴 지 {@code age} 가 지난 게시글을 {@code batchSize} 개씩 보관 테이블로 옮긴다.
+ * 옮긴 글은 기본 목록과 검색에서 빠지고, ID 로 찾거나 보관된 글 검색으로만 읽는다.
+ */
+@ConfigurationProperties("board.archive")
+public record ArticleArchiveProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("365d") Duration age,
+        @DefaultValue("500") int batchSize
+) {
+}
@@ -0,0 +1,81 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
+import com.fastcampus.fastcampusprojectboard.domain.constant.ChangeType;
+import com.fastcampus.fastcampusprojectboard.outbox.ChangeEvent;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.ArticleArchiveJdbcRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 오래된 게시글을 댓글, 해시태그 연결과 함께 보관 테이블(article_archive 등)로 옮긴다.
+ * article 에는 최근 글만 남아서, 작성일 정렬 목록과 검색이 보관된 글까지 훑지 않는다.
+ * <p>
+ * 배치마다 따로 커밋하므로 중간에 실패해도 이미 옮긴 배치는 그대로 두고, 남은 글은 다음 주기에 옮긴다.
+ * 옮긴 게시글은 ARCHIVED 변경 이벤트로 남겨 다른 노드의 2차 캐시에서도 지운다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleArchiveService {
+
+    private final ArticleArchiveJdbcRepository articleArchiveJdbcRepository;
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final ArticleArchiveProperties articleArchiveProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    @Scheduled(fixedDelayString = "${board.archive.interval:PT10M}")
+    public void archiveExpiredArticles() {
+        if (!articleArchiveProperties.enabled()) {
+            return;
+        }
+
+        try {
+            archiveArticlesCreatedBefore(LocalDateTime.now().minus(articleArchiveProperties.age()));
+        } catch (DataAccessException e) {
+            log.warn("게시글 보관 실패, 다음 주기에 다시 시도합니다. - {}", e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * @return 옮긴 게시글 수
+     */
+    public long archiveArticlesCreatedBefore(LocalDateTime createdBefore) {
+        int batchSize = articleArchiveProperties.batchSize();
+        long archived = 0;
+        int moved;
+        do {
+            moved = Objects.requireNonNull(transactionTemplate.execute(status -> archiveBatch(createdBefore, batchSize)));
+            archived += moved;
+        } while (moved == batchSize);
+
+        if (archived > 0) {
+            log.info("게시글 보관 완료 - createdBefore: {}, archived: {}", createdBefore, archived);
+        }
+        return archived;
+    }
+
+    private int archiveBatch(LocalDateTime createdBefore, int batchSize) {
+        List<Long> articleIds = articleArchiveJdbcRepository.lockArticleIdsCreatedBefore(createdBefore, batchSize);
+        if (articleIds.isEmpty()) {
+            return 0;
+        }
+
+        articleArchiveJdbcRepository.moveArticles(articleIds, LocalDateTime.now());
+        // JDBC 로 옮긴 행은 OutboxCaptureListener 에 잡히지 않으므로 변경 이벤트를 직접 남긴다
+        outboxJdbcRepository.insertEvents(articleIds.stream()
+                .map(articleId -> ChangeEvent.of(AggregateType.ARTICLE, articleId, ChangeType.ARCHIVED))
+                .toList());
+
+        return articleIds.size();
+    }
+}
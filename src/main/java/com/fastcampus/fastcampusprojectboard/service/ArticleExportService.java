@@ -0,0 +1,70 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.fastcampus.fastcampusprojectboard.dto.response.ArticleExportResponse;
+import com.fastcampus.fastcampusprojectboard.repository.ArticleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@Service
+public class ArticleExportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final byte NEW_LINE = '\n';
+
+    private final ArticleRepository articleRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 게시글을 한 줄에 하나씩 JSON 으로 출력한다.
+     * ID 순서로 {@value CHUNK_SIZE} 건씩 읽고, 작성자와 해시태그(댓글을 넣으면 댓글과 댓글 작성자도)는 구간마다 IN 쿼리로 한 번에 채운다.
+     * 구간을 쓸 때마다 영속성 컨텍스트를 비우므로, 게시글 수와 상관없이 쿼리 수는 구간 수에 비례하고 메모리 사용량은 일정하다.
+     *
+     * @return 내보낸 게시글 수
+     */
+    public long exportArticles(boolean includeComments, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(ArticleExportResponse.class);
+        long count = 0;
+        long lastId = 0;
+        List<Long> ids;
+
+        do {
+            ids = articleRepository.findIdsAfter(lastId, PageRequest.ofSize(CHUNK_SIZE));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            List<Article> articles = articleRepository.findAllWithUserAccountAndHashtagsByIdIn(ids);
+            if (includeComments) {
+                articleRepository.findAllWithCommentsByIdIn(ids);
+            }
+            for (Article article : articles) {
+                out.write(writer.writeValueAsBytes(ArticleExportResponse.from(article, includeComments)));
+                out.write(NEW_LINE);
+            }
+
+            count += articles.size();
+            lastId = ids.get(ids.size() - 1);
+            out.flush();
+            entityManager.clear();
+        } while (ids.size() == CHUNK_SIZE);
+
+        out.flush();
+        log.debug("게시글 내보내기 완료 - count: {}, includeComments: {}", count, includeComments);
+        return count;
+    }
+}
@@ -0,0 +1,263 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
+import com.fastcampus.fastcampusprojectboard.domain.constant.ChangeType;
+import com.fastcampus.fastcampusprojectboard.dto.request.ArticleImportRequest;
+import com.fastcampus.fastcampusprojectboard.outbox.ChangeEvent;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.ArticleJdbcRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.HashtagJdbcRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * NDJSON/CSV 파일에서 게시글을 대량 등록한다.
+ * <ol>
+ *     <li>파일을 순서대로 읽어 배치 단위로 자르고</li>
+ *     <li>배치 안에서 레코드 파싱과 해시태그 추출을 병렬로 하고</li>
+ *     <li>배치의 해시태그를 한 번에 upsert 한 뒤, 게시글과 article_hashtag 를 JDBC batch insert 로 쓴다</li>
+ *     <li>새로 생긴 게시글과 해시태그의 변경 이벤트를 같은 트랜잭션에서 outbox_event 에 남긴다</li>
+ * </ol>
+ * 처리한 레코드 수도 같은 트랜잭션에서 article_import_checkpoint 에 남기므로, 중간에 멈추면 마지막으로 커밋된 배치 다음부터 이어서 등록한다.
+ * 필수 값이 없거나 컬럼 길이를 넘는 레코드는 몇 번째 레코드인지 로그로 남기고 건너뛴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleImportService {
+
+    private final HashtagService hashtagService;
+    private final HashtagJdbcRepository hashtagJdbcRepository;
+    private final ArticleJdbcRepository articleJdbcRepository;
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    public record ImportResult(long imported, long skipped, long resumedFrom, Duration elapsed) {
+        public double rowsPerSecond() {
+            return elapsed.isZero() ? imported : imported / (elapsed.toNanos() / 1_000_000_000.0);
+        }
+    }
+
+    public ImportResult importArticles(Path path, int batchSize) throws IOException {
+        String checkpointSource = path.toAbsolutePath().normalize().toString();
+        long resumedFrom = articleJdbcRepository.findImportCheckpoint(checkpointSource);
+        long consumed = resumedFrom;
+        long imported = 0;
+        long skipped = 0;
+        long startedAt = System.nanoTime();
+
+        try (RecordSource source = open(path)) {
+            source.skip(resumedFrom);
+            if (resumedFrom > 0) {
+                log.info("체크포인트부터 이어서 등록합니다 - path: {}, resumedFrom: {}", path, resumedFrom);
+            }
+
+            List<Supplier<ArticleImportRequest>> rawRecords;
+            while (!(rawRecords = source.nextBatch(batchSize)).isEmpty()) {
+                LocalDateTime now = LocalDateTime.now();
+                long firstRecordNumber = consumed + 1;
+                List<Supplier<ArticleImportRequest>> batch = rawRecords;
+                List<ArticleImportRequest> parsed = IntStream.range(0, batch.size()).parallel()
+                        .mapToObj(i -> parse(firstRecordNumber + i, batch.get(i), now))
+                        .filter(Objects::nonNull)
+                        .toList();
+
+                long consumedAfterBatch = consumed + rawRecords.size();
+                int written = Objects.requireNonNull(transactionTemplate.execute(status -> {
+                    int batchWritten = writeBatch(parsed);
+                    articleJdbcRepository.saveImportCheckpoint(checkpointSource, consumedAfterBatch, now);
+                    return batchWritten;
+                }));
+                imported += written;
+                skipped += rawRecords.size() - written;
+                consumed = consumedAfterBatch;
+
+                log.info("게시글 등록 중 - imported: {}, skipped: {}, {} rows/s",
+                        imported, skipped, String.format("%.1f", imported / elapsedSeconds(startedAt)));
+            }
+        }
+
+        ImportResult result = new ImportResult(imported, skipped, resumedFrom, Duration.ofNanos(System.nanoTime() - startedAt));
+        log.info("게시글 등록 완료 - path: {}, imported: {}, skipped: {}, elapsed: {}, {} rows/s",
+                path, result.imported(), result.skipped(), result.elapsed(), String.format("%.1f", result.rowsPerSecond()));
+        return result;
+    }
+
+    private int writeBatch(List<ArticleImportRequest> articles) {
+        Set<String> userIds = articles.stream().map(ArticleImportRequest::userId).collect(Collectors.toSet());
+        Set<String> existingUserIds = articleJdbcRepository.findExistingUserIds(userIds);
+        List<ArticleImportRequest> writableArticles = articles.stream()
+                .filter(article -> existingUserIds.contains(article.userId()))
+                .toList();
+        if (writableArticles.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> hashtagNames = new HashSet<>();
+        writableArticles.forEach(article -> hashtagNames.addAll(article.hashtagNames()));
+        Set<String> insertedHashtagNames = hashtagJdbcRepository.insertHashtagNamesIfAbsent(hashtagNames);
+        Map<String, Long> hashtagIds = hashtagNames.isEmpty() ? Map.of() : hashtagJdbcRepository.findIdsByHashtagNames(hashtagNames);
+
+        List<Long> articleIds = articleJdbcRepository.insertArticles(writableArticles);
+        List<long[]> articleHashtags = new ArrayList<>();
+        for (int i = 0; i < writableArticles.size(); i++) {
+            long articleId = articleIds.get(i);
+            writableArticles.get(i).hashtagNames()
+                    .forEach(hashtagName -> articleHashtags.add(new long[]{articleId, hashtagIds.get(hashtagName)}));
+        }
+        articleJdbcRepository.insertArticleHashtags(articleHashtags);
+
+        // JDBC 로 넣은 행은 OutboxCaptureListener 에 잡히지 않으므로 변경 이벤트를 직접 남긴다
+        List<ChangeEvent> events = new ArrayList<>(insertedHashtagNames.size() + articleIds.size());
+        insertedHashtagNames.forEach(hashtagName -> events.add(ChangeEvent.of(AggregateType.HASHTAG, hashtagIds.get(hashtagName), ChangeType.CREATED)));
+        articleIds.forEach(articleId -> events.add(ChangeEvent.of(AggregateType.ARTICLE, articleId, ChangeType.CREATED)));
+        outboxJdbcRepository.insertEvents(events);
+
+        return writableArticles.size();
+    }
+
+    private ArticleImportRequest parse(long recordNumber, Supplier<ArticleImportRequest> rawRecord, LocalDateTime now) {
+        try {
+            ArticleImportRequest request = rawRecord.get();
+            if (request == null) {
+                return null;
+            }
+            String invalidReason = request.invalidReason();
+            if (invalidReason != null) {
+                log.warn("잘못된 레코드를 건너뜁니다 - record: {}, reason: {}", recordNumber, invalidReason);
+                return null;
+            }
+            return request.withDefaults(now, hashtagService.parseHashtagNames(request.content()));
+        } catch (RuntimeException e) {
+            log.warn("잘못된 레코드를 건너뜁니다 - record: {}, reason: {}", recordNumber, e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    private RecordSource open(Path path) throws IOException {
+        BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8);
+        return path.getFileName().toString().toLowerCase().endsWith(".csv")
+                ? new CsvRecordSource(new CsvRecordReader(reader))
+                : new NdjsonRecordSource(reader, objectMapper);
+    }
+
+    private static double elapsedSeconds(long startedAt) {
+        return Math.max(System.nanoTime() - startedAt, 1) / 1_000_000_000.0;
+    }
+
+    // 파일을 순서대로 읽기만 하고, 실제 파싱은 병렬 단계에서 하도록 Supplier 로 미룬다
+    private interface RecordSource extends Closeable {
+        Supplier<ArticleImportRequest> next() throws IOException;
+
+        default void skip(long count) throws IOException {
+            long skipped = 0;
+            while (skipped < count && next() != null) {
+                skipped++;
+            }
+        }
+
+        default List<Supplier<ArticleImportRequest>> nextBatch(int batchSize) throws IOException {
+            List<Supplier<ArticleImportRequest>> batch = new ArrayList<>(batchSize);
+            Supplier<ArticleImportRequest> rawRecord;
+            while (batch.size() < batchSize && (rawRecord = next()) != null) {
+                batch.add(rawRecord);
+            }
+            return batch;
+        }
+    }
+
+    private record NdjsonRecordSource(BufferedReader reader, ObjectMapper objectMapper) implements RecordSource {
+        @Override
+        public Supplier<ArticleImportRequest> next() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            return () -> {
+                if (line.isBlank()) {
+                    return null;
+                }
+                try {
+                    return objectMapper.readValue(line, ArticleImportRequest.class);
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("JSON 파싱 실패: " + e.getOriginalMessage(), e);
+                }
+            };
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    // 첫 레코드는 헤더: userId,title,content[,createdAt,createdBy]
+    private static final class CsvRecordSource implements RecordSource {
+        private final CsvRecordReader reader;
+        private Map<String, Integer> header;
+
+        private CsvRecordSource(CsvRecordReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public Supplier<ArticleImportRequest> next() throws IOException {
+            if (header == null) {
+                List<String> columns = reader.next();
+                header = new HashMap<>();
+                for (int i = 0; columns != null && i < columns.size(); i++) {
+                    header.put(columns.get(i).strip(), i);
+                }
+            }
+
+            List<String> fields = reader.next();
+            if (fields == null) {
+                return null;
+            }
+            Map<String, Integer> columns = header;
+            return () -> {
+                String createdAt = field(fields, columns, "createdAt");
+                return ArticleImportRequest.of(
+                        field(fields, columns, "userId"),
+                        field(fields, columns, "title"),
+                        field(fields, columns, "content"),
+                        createdAt == null || createdAt.isBlank() ? null : LocalDateTime.parse(createdAt),
+                        field(fields, columns, "createdBy")
+                );
+            };
+        }
+
+        private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+            Integer index = columns.get(name);
+            return index == null || index >= fields.size() ? null : fields.get(index);
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
@@ -2,18 +2,22 @@ package com.fastcampus.fastcampusprojectboard.service;
 
 import com.fastcampus.fastcampusprojectboard.domain.Article;
 import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+import com.fastcampus.fastcampusprojectboard.domain.QArticle;
 import com.fastcampus.fastcampusprojectboard.domain.UserAccount;
 import com.fastcampus.fastcampusprojectboard.domain.constant.SearchType;
 import com.fastcampus.fastcampusprojectboard.dto.ArticleDto;
 import com.fastcampus.fastcampusprojectboard.dto.ArticleWithCommentsDto;
+import com.fastcampus.fastcampusprojectboard.repository.ArchivedArticleRepository;
 import com.fastcampus.fastcampusprojectboard.repository.ArticleRepository;
 import com.fastcampus.fastcampusprojectboard.repository.HashtagRepository;
 import com.fastcampus.fastcampusprojectboard.repository.UserAccountRepository;
+import com.querydsl.core.BooleanBuilder;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +36,7 @@ public class ArticleService {
     private final ArticleRepository articleRepository;
     private final UserAccountRepository userAccountRepository;
     private final HashtagRepository hashtagRepository;
+    private final ArchivedArticleRepository archivedArticleRepository;
 
     @Transactional(readOnly = true)
     public Page<ArticleDto> searchArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
@@ -44,15 +49,45 @@ public class ArticleService {
             case CONTENT -> articleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
             case ID -> articleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
             case NICKNAME -> articleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
-            case HASHTAG -> articleRepository.findByHashtagNames(Arrays.stream(searchKeyword.split("")).toList(), pageable).map(ArticleDto::from);
+            case HASHTAG -> articleRepository.findByHashtagNames(hashtagNamesOf(searchKeyword), pageable).map(ArticleDto::from);
         };
 
     }
 
+    // 보관된 글은 기본 목록과 검색에 나오지 않고, "보관된 글에서 찾기"로 따로 찾을 때만 article_archive 를 읽는다
+    @Transactional(readOnly = true)
+    public Page<ArticleDto> searchArchivedArticles(SearchType searchType, String searchKeyword, Pageable pageable) {
+        if (searchKeyword == null || searchKeyword.isBlank()) {
+            return archivedArticleRepository.findAll(pageable).map(ArticleDto::from);
+        }
+
+        return switch (searchType) {
+            case TITLE -> archivedArticleRepository.findByTitleContaining(searchKeyword, pageable).map(ArticleDto::from);
+            case CONTENT -> archivedArticleRepository.findByContentContaining(searchKeyword, pageable).map(ArticleDto::from);
+            case ID -> archivedArticleRepository.findByUserAccount_UserIdContaining(searchKeyword, pageable).map(ArticleDto::from);
+            case NICKNAME -> archivedArticleRepository.findByUserAccount_NicknameContaining(searchKeyword, pageable).map(ArticleDto::from);
+            case HASHTAG -> archivedArticleRepository.findDistinctByHashtags_HashtagNameIn(hashtagNamesOf(searchKeyword), pageable).map(ArticleDto::from);
+        };
+    }
+
+    // 스트리밍 목록 화면용: count 없이 한 구간만 읽는다
+    @Transactional(readOnly = true)
+    public List<ArticleDto> searchArticleChunk(SearchType searchType, String searchKeyword, Sort sort, long offset, int limit) {
+        return articleRepository.findChunk(searchPredicate(searchType, searchKeyword), sort, offset, limit).stream()
+                .map(ArticleDto::from)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public long countArticles(SearchType searchType, String searchKeyword) {
+        return articleRepository.count(searchPredicate(searchType, searchKeyword));
+    }
+
     @Transactional(readOnly = true)
     public ArticleWithCommentsDto getArticleWithComments(long articleId) {
         return articleRepository.findById(articleId)
                 .map(ArticleWithCommentsDto::from)
+                .or(() -> archivedArticleRepository.findById(articleId).map(ArticleWithCommentsDto::from))
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId:" + articleId));
     }
 
@@ -63,6 +98,7 @@ public class ArticleService {
                 .orElseThrow(() -> new EntityNotFoundException("게시글이 없습니다 - articleId:" + articleId));
     }
 
+    @Transactional(readOnly = true)
     public long getArticleCount() {
         return articleRepository.count();
     }
@@ -84,17 +120,10 @@ public class ArticleService {
 
             if (article.getUserAccount().equals(userAccount)) {
                 if (dto.title() != null) { article.setTitle(dto.title()); }
-                if (dto.content() != null) { article.setContent(dto.content()); }
-
-                Set<Long> hashtagIds = article.getHashtags().stream()
-                        .map(Hashtag::getId)
-                        .collect(Collectors.toUnmodifiableSet());
-                article.clearHashtags();
-                articleRepository.flush();
-
-                hashtagIds.forEach(hashtagService::deleteHashtagWithoutArticles);
-                Set<Hashtag> hashtags = renewHashtagFromContent(dto.content());
-                article.addHashtags(hashtags);
+                if (dto.content() != null && !dto.content().equals(article.getContent())) {
+                    article.setContent(dto.content());
+                    reconcileHashtags(article, hashtagService.parseHashtagNames(dto.content()));
+                }
             }
         } catch (EntityNotFoundException e) {
             log.warn("게시글 업데이트 실패, 게시글을 수정하는데 필요한 정보를 찾을 수 없습니다. - {}", e.getLocalizedMessage());
@@ -123,23 +152,58 @@ public class ArticleService {
                 .map(ArticleDto::from);
     }
 
+    @Transactional(readOnly = true)
     public List<String> getHashtags() {
         return hashtagRepository.findAllHashtagNames(); //TODO : 서비스로 이동 고려
     }
 
+    private static BooleanBuilder searchPredicate(SearchType searchType, String searchKeyword) {
+        BooleanBuilder predicate = new BooleanBuilder();
+        if (searchType == null || searchKeyword == null || searchKeyword.isBlank()) {
+            return predicate;
+        }
+
+        QArticle article = QArticle.article;
+        return predicate.and(switch (searchType) {
+            case TITLE -> article.title.contains(searchKeyword);
+            case CONTENT -> article.content.contains(searchKeyword);
+            case ID -> article.userAccount.userId.contains(searchKeyword);
+            case NICKNAME -> article.userAccount.nickname.contains(searchKeyword);
+            case HASHTAG -> article.hashtags.any().hashtagName.in(hashtagNamesOf(searchKeyword));
+        });
+    }
+
+    // 해시태그 검색어는 공백으로 나눈 태그 이름들로 보고, 그중 하나라도 붙은 글을 찾는다. 앞의 '#' 은 떼어 낸다
+    private static List<String> hashtagNamesOf(String searchKeyword) {
+        return Arrays.stream(searchKeyword.strip().split("\\s+"))
+                .map(keyword -> keyword.startsWith("#") ? keyword.substring(1) : keyword)
+                .filter(hashtagName -> !hashtagName.isEmpty())
+                .distinct()
+                .toList();
+    }
+
     private Set<Hashtag> renewHashtagFromContent(String content) {
-        Set<String> hashtagNamesInContent = hashtagService.parseHashtagNames(content);
-        Set<Hashtag> hashtags = hashtagService.findHashtagsByNames(hashtagNamesInContent);
-        Set<String> existingHashtagNames = hashtags.stream()
+        return hashtagService.resolveHashtags(hashtagService.parseHashtagNames(content));
+    }
+
+    //본문에서 사라진 해시태그와 새로 생긴 해시태그만 반영해서, 바뀐 article_hashtag 행만 insert/delete 한다
+    private void reconcileHashtags(Article article, Set<String> hashtagNamesInContent) {
+        Set<String> currentHashtagNames = article.getHashtags().stream()
                 .map(Hashtag::getHashtagName)
                 .collect(Collectors.toUnmodifiableSet());
+        Set<Hashtag> removedHashtags = article.getHashtags().stream()
+                .filter(hashtag -> !hashtagNamesInContent.contains(hashtag.getHashtagName()))
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> addedHashtagNames = hashtagNamesInContent.stream()
+                .filter(hashtagName -> !currentHashtagNames.contains(hashtagName))
+                .collect(Collectors.toUnmodifiableSet());
 
-        hashtagNamesInContent.forEach(newHashtagName -> {
-            if (!existingHashtagNames.contains(newHashtagName)) {
-                hashtags.add(Hashtag.of(newHashtagName));
-            }
-        });
-
-        return hashtags;
+        if (!removedHashtags.isEmpty()) {
+            article.removeHashtags(removedHashtags);
+            hashtagService.deleteHashtagsWithoutArticles(removedHashtags, article.getId());
+        }
+        if (!addedHashtagNames.isEmpty()) {
+            article.addHashtags(hashtagService.resolveHashtags(addedHashtagNames));
+        }
     }
 }
@@ -0,0 +1,92 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.ArticleJdbcRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 조회수.
+ * 상세 조회마다 article 행을 잠그며 갱신하지 않고, 메모리에 모았다가 {@code board.view-count.flush-interval} 마다 한 번의 batch update 로 더한다.
+ * 게시글별 {@link LongAdder} 는 경합이 생기면 셀을 나눠(striped) 세므로, 인기 글을 동시에 읽어도 한 카운터에 몰리지 않는다.
+ * <p>
+ * 노드가 갑자기 죽으면 마지막 반영 이후, 즉 최대 flush-interval 동안의 조회수만 잃는다. 정상 종료 때는 남은 값을 반영한다.
+ * DB 반영에 실패하면 증가분을 되돌려 놓고 다음 주기에 다시 시도한다.
+ * <p>
+ * flush 는 가상 스레드에서도 돌 수 있어서, JDBC 호출을 감싸는 잠금은 캐리어 스레드를 붙잡는 synchronized 대신 ReentrantLock 을 쓴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ArticleViewCountService {
+
+    private final ArticleJdbcRepository articleJdbcRepository;
+    private final Map<Long, LongAdder> pendingViews = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public void increment(long articleId) {
+        add(articleId, 1);
+    }
+
+    // 이 노드에서 아직 DB 에 반영하지 않은 조회수
+    public long pendingViews(long articleId) {
+        LongAdder views = pendingViews.get(articleId);
+        return views == null ? 0 : views.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval:PT5S}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, Long> deltas = new TreeMap<>(); // 게시글 ID 순서
+            pendingViews.forEach((articleId, views) -> {
+                long delta = views.sumThenReset();
+                if (delta > 0) {
+                    deltas.put(articleId, delta);
+                } else {
+                    // 한 주기 동안 조회가 없던 글은 맵에서 뺀다. 그 사이 들어온 조회가 있으면 남겨 둔다
+                    pendingViews.computeIfPresent(articleId, (id, current) -> current == views && current.sum() == 0 ? null : current);
+                }
+            });
+            if (deltas.isEmpty()) {
+                return;
+            }
+
+            try {
+                articleJdbcRepository.addViewCounts(deltas);
+            } catch (DataAccessException e) {
+                log.warn("조회수 반영 실패, 다음 주기에 다시 시도합니다. - 게시글 {}건: {}", deltas.size(), e.getLocalizedMessage());
+                deltas.forEach(this::add);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void add(long articleId, long delta) {
+        LongAdder views = pendingViews.computeIfAbsent(articleId, id -> new LongAdder());
+        views.add(delta);
+        // flush 가 빈 카운터로 보고 방금 맵에서 뺐다면, 빠진 카운터에 남은 값을 맵에 있는 카운터로 옮긴다
+        // (flush 가 이미 센 값은 남아 있지 않고, 남은 값은 sumThenReset 으로 한 번만 옮겨진다)
+        if (pendingViews.get(articleId) != views) {
+            long late = views.sumThenReset();
+            if (late > 0) {
+                add(articleId, late);
+            }
+        }
+    }
+}
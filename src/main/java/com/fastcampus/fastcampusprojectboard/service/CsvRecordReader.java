@@ -0,0 +1,68 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV 를 한 레코드씩 읽는다. 따옴표로 감싼 필드 안의 쉼표, 줄바꿈, 이중 따옴표("")를 처리한다.
+ */
+class CsvRecordReader implements Closeable {
+
+    private final BufferedReader reader;
+
+    CsvRecordReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return 다음 레코드의 필드 목록, 더 읽을 레코드가 없으면 {@code null}
+     */
+    List<String> next() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
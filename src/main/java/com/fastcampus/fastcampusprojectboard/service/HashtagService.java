@@ -1,15 +1,23 @@
 package com.fastcampus.fastcampusprojectboard.service;
 
 import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
+import com.fastcampus.fastcampusprojectboard.domain.constant.ChangeType;
+import com.fastcampus.fastcampusprojectboard.outbox.ChangeEvent;
 import com.fastcampus.fastcampusprojectboard.repository.HashtagRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.HashtagJdbcRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
 import com.fastcampus.fastcampusprojectboard.repository.querydsl.HashtagRepositoryCustom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -19,12 +27,42 @@ import java.util.regex.Pattern;
 public class HashtagService {
 
     private final HashtagRepository hashtagRepository;
+    private final HashtagJdbcRepository hashtagJdbcRepository;
+    private final OutboxJdbcRepository outboxJdbcRepository;
 
     @Transactional(readOnly = true)
     public Set<Hashtag> findHashtagsByNames(Set<String> hashtagNames) {
         return new HashSet<>(hashtagRepository.findByHashtagNameIn(hashtagNames));
     }
 
+    public Set<Hashtag> resolveHashtags(Set<String> hashtagNames) {
+        if (hashtagNames.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<Hashtag> hashtags = findHashtagsByNames(hashtagNames);
+        Set<String> existingHashtagNames = hashtags.stream()
+                .map(Hashtag::getHashtagName)
+                .collect(Collectors.toUnmodifiableSet());
+        Set<String> missingHashtagNames = hashtagNames.stream()
+                .filter(hashtagName -> !existingHashtagNames.contains(hashtagName))
+                .collect(Collectors.toUnmodifiableSet());
+
+        if (!missingHashtagNames.isEmpty()) {
+            Set<String> insertedHashtagNames = hashtagJdbcRepository.insertHashtagNamesIfAbsent(missingHashtagNames);
+            List<Hashtag> missingHashtags = hashtagRepository.findAllForShareByHashtagNameIn(missingHashtagNames);
+            hashtags.addAll(missingHashtags);
+
+            // JDBC 로 넣은 해시태그는 OutboxCaptureListener 에 잡히지 않으므로 변경 이벤트를 직접 남긴다
+            outboxJdbcRepository.insertEvents(missingHashtags.stream()
+                    .filter(hashtag -> insertedHashtagNames.contains(hashtag.getHashtagName()))
+                    .map(hashtag -> ChangeEvent.of(AggregateType.HASHTAG, hashtag.getId(), ChangeType.CREATED))
+                    .toList());
+        }
+
+        return hashtags;
+    }
+
     public Set<String> parseHashtagNames(String content) {
         if (content == null) {
             return Set.of();
@@ -43,8 +81,19 @@ public class HashtagService {
 
     public void deleteHashtagWithoutArticles(Long hashtagId) {
         Hashtag hashtag = hashtagRepository.getReferenceById(hashtagId);
-        if (hashtag.getArticles().isEmpty()) {
+        if (hashtag.getArticles().isEmpty() && hashtagRepository.findArchivedHashtagIds(Set.of(hashtagId)).isEmpty()) {
             hashtagRepository.delete(hashtag);
         }
     }
+
+    public void deleteHashtagsWithoutArticles(Collection<Hashtag> hashtags, Long excludedArticleId) {
+        Set<Long> hashtagIds = hashtags.stream()
+                .map(Hashtag::getId)
+                .collect(Collectors.toUnmodifiableSet());
+        Set<Long> hashtagIdsInUse = hashtagRepository.findHashtagIdsInUse(hashtagIds, excludedArticleId);
+
+        hashtags.stream()
+                .filter(hashtag -> !hashtagIdsInUse.contains(hashtag.getId()))
+                .forEach(hashtagRepository::delete);
+    }
 }
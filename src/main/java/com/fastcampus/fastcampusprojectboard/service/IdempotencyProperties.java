@@ -0,0 +1,15 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 멱등 키 설정. 처리 결과는 {@code retention} 동안만 남겨 두고, 그보다 늦게 온 재시도는 새 요청으로 처리한다.
+ */
+@ConfigurationProperties("board.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("24h") Duration retention
+) {
+}
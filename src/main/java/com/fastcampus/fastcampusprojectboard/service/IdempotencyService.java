@@ -0,0 +1,62 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.IdempotencyJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * 타임아웃 뒤 재시도로 같은 글이나 댓글이 두 번 저장되지 않게 한다.
+ * 폼에 숨겨 둔 {@code idempotencyKey} 로 사용자별 키를 선점하고, 처음 요청의 결과(리다이렉트 주소)를 남긴다.
+ * <p>
+ * 선점, 저장, 결과 기록이 한 트랜잭션이라 저장이 실패하면 선점도 함께 롤백되어 다음 재시도가 다시 실행된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Transactional
+@Service
+public class IdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 64;
+
+    private final IdempotencyJdbcRepository idempotencyJdbcRepository;
+    private final IdempotencyProperties idempotencyProperties;
+
+    /**
+     * 같은 사용자가 같은 키로 이미 처리한 요청이면 {@code action} 을 실행하지 않고 처음 결과를 돌려준다.
+     * 키가 없으면 그냥 실행한다.
+     */
+    public String execute(String userId, String idempotencyKey, Supplier<String> action) {
+        if (!StringUtils.hasText(idempotencyKey)) {
+            return action.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("멱등 키가 너무 깁니다 - length: " + idempotencyKey.length());
+        }
+
+        if (!idempotencyJdbcRepository.claim(userId, idempotencyKey, LocalDateTime.now())) {
+            log.debug("이미 처리한 요청의 결과를 돌려줍니다 - userId: {}, idempotencyKey: {}", userId, idempotencyKey);
+            return idempotencyJdbcRepository.findResponse(userId, idempotencyKey)
+                    .orElseThrow(() -> new IllegalStateException("같은 키로 처리 중인 요청이 있습니다 - idempotencyKey: " + idempotencyKey));
+        }
+
+        String response = action.get();
+        idempotencyJdbcRepository.saveResponse(userId, idempotencyKey, response);
+
+        return response;
+    }
+
+    @Scheduled(fixedDelayString = "${board.idempotency.cleanup-interval:PT10M}")
+    public void deleteExpiredRecords() {
+        int deleted = idempotencyJdbcRepository.deleteCreatedBefore(LocalDateTime.now().minus(idempotencyProperties.retention()));
+        if (deleted > 0) {
+            log.debug("보관 기간이 지난 멱등 키를 지웠습니다 - count: {}", deleted);
+        }
+    }
+}
@@ -16,6 +16,7 @@ public class UserAccountService {
 
     private final UserAccountRepository userAccountRepository;
 
+    // 로그인마다 DB 를 조회하지 않도록 UserAccount 의 2차 캐시(userAccount 영역)에서 읽는다. 저장하면 Hibernate 가 캐시를 고친다.
     @Transactional(readOnly = true)
     public Optional<UserAccountDto> searchUser(String username) {
         return userAccountRepository.findById(username)
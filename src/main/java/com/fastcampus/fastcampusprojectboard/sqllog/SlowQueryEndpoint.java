@@ -0,0 +1,40 @@
+package com.fastcampus.fastcampusprojectboard.sqllog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+/**
+ * {@code GET /actuator/slowqueries}: 느린 문장 상위 목록. {@code DELETE} 로 비운다.
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private static final int LIMIT = 50;
+
+    public record Report(long slowThresholdMillis, double sampleRate, long droppedEntries, List<SlowQueryReport.Entry> queries) {
+    }
+
+    private final SqlLogProperties properties;
+    private final SqlLogRingBuffer ringBuffer;
+    private final SlowQueryReport slowQueryReport;
+
+    @ReadOperation
+    public Report report() {
+        return new Report(
+                properties.slowThreshold().toMillis(),
+                properties.sampleRate(),
+                ringBuffer.dropped(),
+                slowQueryReport.top(LIMIT)
+        );
+    }
+
+    @DeleteOperation
+    public void reset() {
+        slowQueryReport.clear();
+    }
+}
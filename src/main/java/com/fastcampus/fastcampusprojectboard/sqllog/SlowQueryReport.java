@@ -0,0 +1,70 @@
+package com.fastcampus.fastcampusprojectboard.sqllog;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 느린 문장을 정규화한 SQL 별로 모은다. 최근에 보지 못한 문장부터 밀어내서 {@code capacity} 개까지만 들고 있는다.
+ * 잠금은 맵을 고치거나 복사하는 동안만 잡고, 정렬은 복사본으로 잠금 밖에서 한다.
+ */
+public class SlowQueryReport {
+
+    public record Entry(String sql, long count, long totalMillis, long maxMillis, Instant lastSeenAt) {
+    }
+
+    private final Map<String, Entry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public SlowQueryReport(int capacity) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public void record(String sql, long elapsedMillis, Instant executedAt) {
+        lock.lock();
+        try {
+            entries.merge(sql, new Entry(sql, 1, elapsedMillis, elapsedMillis, executedAt), (before, now) -> new Entry(
+                    sql,
+                    before.count() + 1,
+                    before.totalMillis() + elapsedMillis,
+                    Math.max(before.maxMillis(), elapsedMillis),
+                    executedAt
+            ));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 총 소요 시간이 큰 순서
+    public List<Entry> top(int limit) {
+        List<Entry> snapshot;
+        lock.lock();
+        try {
+            snapshot = new ArrayList<>(entries.values());
+        } finally {
+            lock.unlock();
+        }
+        return snapshot.stream()
+                .sorted(Comparator.comparingLong(Entry::totalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
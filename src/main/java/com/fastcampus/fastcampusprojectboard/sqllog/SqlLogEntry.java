@@ -0,0 +1,20 @@
+package com.fastcampus.fastcampusprojectboard.sqllog;
+
+import java.time.Instant;
+
+/**
+ * 요청 스레드가 링 버퍼에 넣는 기록 한 건. SQL 정규화처럼 비싼 일은 쓰는 쪽({@link SqlLogWriter})에서 한다.
+ *
+ * @param bindCount 행 하나에 바인딩한 파라미터 수
+ * @param batchSize 배치로 실행한 행 수 (배치가 아니면 1)
+ */
+public record SqlLogEntry(
+        Instant executedAt,
+        String sql,
+        int bindCount,
+        int batchSize,
+        long elapsedMillis,
+        boolean success,
+        boolean slow
+) {
+}
@@ -0,0 +1,48 @@
+package com.fastcampus.fastcampusprojectboard.sqllog;
+
+import lombok.RequiredArgsConstructor;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * JDBC 문장이 끝날 때마다 요청 스레드에서 불린다.
+ * 표본으로 뽑히거나 느린 문장만 원본 SQL 그대로 링 버퍼에 넣고, 포맷팅/로그 출력은 하지 않는다.
+ */
+@RequiredArgsConstructor
+public class SqlLogListener implements QueryExecutionListener {
+
+    private final SqlLogProperties properties;
+    private final SqlLogRingBuffer ringBuffer;
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        boolean slow = execInfo.getElapsedTime() >= properties.slowThreshold().toMillis();
+        if (!slow && ThreadLocalRandom.current().nextDouble() >= properties.sampleRate()) {
+            return;
+        }
+
+        Instant executedAt = Instant.now();
+        for (QueryInfo queryInfo : queryInfoList) {
+            List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+            ringBuffer.offer(new SqlLogEntry(
+                    executedAt,
+                    queryInfo.getQuery(),
+                    parametersList.isEmpty() ? 0 : parametersList.get(0).size(),
+                    execInfo.isBatch() ? Math.max(parametersList.size(), 1) : 1,
+                    execInfo.getElapsedTime(),
+                    execInfo.isSuccess(),
+                    slow
+            ));
+        }
+    }
+}
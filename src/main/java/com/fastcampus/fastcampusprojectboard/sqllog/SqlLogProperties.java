@@ -0,0 +1,21 @@
+package com.fastcampus.fastcampusprojectboard.sqllog;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 표본 SQL 로그 설정.
+ * {@code slowThreshold} 이상 걸린 문장은 항상, 나머지는 {@code sampleRate} 비율로만 남긴다.
+ * 기록은 {@code bufferSize} 칸짜리 링 버퍼를 거쳐 별도 스레드가 쓰고, 버퍼가 차면 버린다.
+ */
+@ConfigurationProperties("board.sql-log")
+public record SqlLogProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("0.01") double sampleRate,
+        @DefaultValue("200ms") Duration slowThreshold,
+        @DefaultValue("8192") int bufferSize,
+        @DefaultValue("200") int slowQueryCapacity
+) {
+}
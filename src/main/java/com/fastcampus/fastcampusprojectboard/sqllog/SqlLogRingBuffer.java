@@ -0,0 +1,81 @@
+package com.fastcampus.fastcampusprojectboard.sqllog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * 여러 요청 스레드가 넣고 한 스레드가 꺼내는 고정 크기 링 버퍼.
+ * 넣는 쪽은 락 없이 자리만 잡고 바로 돌아가며, 꽉 차 있으면 기다리지 않고 버린 뒤 개수만 센다.
+ * 꺼내는 쪽은 잠금 안에서 칸만 비워 옮기고, 로그 쓰기 같은 I/O 는 잠금을 푼 뒤에 한다.
+ */
+public class SqlLogRingBuffer {
+
+    private final AtomicReferenceArray<SqlLogEntry> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong(); // 다음에 넣을 위치
+    private volatile long head; // 다음에 꺼낼 위치
+    private final LongAdder dropped = new LongAdder();
+    private final ReentrantLock drainLock = new ReentrantLock();
+
+    public SqlLogRingBuffer(int capacity) {
+        int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1; // 2의 거듭제곱으로 올린다
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public boolean offer(SqlLogEntry entry) {
+        while (true) {
+            long position = tail.get();
+            if (position - head >= slots.length()) {
+                dropped.increment();
+                return false;
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                slots.lazySet((int) position & mask, entry);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 지금까지 들어온 기록을 순서대로 꺼낸다. 자리를 잡았지만 아직 값을 넣지 못한 칸을 만나면 다음 번에 이어서 꺼낸다.
+     */
+    public int drain(Consumer<SqlLogEntry> consumer) {
+        List<SqlLogEntry> entries = takeAll();
+        entries.forEach(consumer);
+        return entries.size();
+    }
+
+    private List<SqlLogEntry> takeAll() {
+        List<SqlLogEntry> entries = new ArrayList<>();
+        drainLock.lock();
+        try {
+            long position = head;
+            while (true) {
+                int index = (int) position & mask;
+                SqlLogEntry entry = slots.get(index);
+                if (entry == null) {
+                    return entries;
+                }
+                slots.set(index, null);
+                head = ++position;
+                entries.add(entry);
+            }
+        } finally {
+            drainLock.unlock();
+        }
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,42 @@
+package com.fastcampus.fastcampusprojectboard.sqllog;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 링 버퍼를 주기적으로 비우면서 SQL 을 정규화해 {@code board.sql} 로거에 key=value 한 줄로 남기고,
+ * 느린 문장은 {@link SlowQueryReport} 에 모은다.
+ */
+@RequiredArgsConstructor
+public class SqlLogWriter {
+
+    private static final Logger SQL_LOG = LoggerFactory.getLogger("board.sql");
+
+    private final SqlLogRingBuffer ringBuffer;
+    private final SlowQueryReport slowQueryReport;
+
+    @Scheduled(fixedDelay = 500)
+    public void flush() {
+        ringBuffer.drain(this::write);
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private void write(SqlLogEntry entry) {
+        String sql = SqlNormalizer.normalize(entry.sql());
+        if (entry.slow()) {
+            slowQueryReport.record(sql, entry.elapsedMillis(), entry.executedAt());
+            SQL_LOG.warn("slow=true elapsedMs={} binds={} batch={} success={} sql=\"{}\"",
+                    entry.elapsedMillis(), entry.bindCount(), entry.batchSize(), entry.success(), sql);
+        } else if (SQL_LOG.isInfoEnabled()) {
+            SQL_LOG.info("slow=false elapsedMs={} binds={} batch={} success={} sql=\"{}\"",
+                    entry.elapsedMillis(), entry.bindCount(), entry.batchSize(), entry.success(), sql);
+        }
+    }
+}
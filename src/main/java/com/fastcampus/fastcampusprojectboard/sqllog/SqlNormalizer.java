@@ -0,0 +1,27 @@
+package com.fastcampus.fastcampusprojectboard.sqllog;
+
+import java.util.regex.Pattern;
+
+/**
+ * 값만 다른 SQL 이 같은 문장으로 모이도록 리터럴, IN 목록, 여러 행 VALUES, 공백을 정리한다.
+ */
+final class SqlNormalizer {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern PLACEHOLDER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern REPEATED_ROWS = Pattern.compile("(\\(\\?, \\.\\.\\.\\))(?:\\s*,\\s*\\(\\?, \\.\\.\\.\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlNormalizer() {
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = PLACEHOLDER_LIST.matcher(normalized).replaceAll("(?, ...)");
+        normalized = REPEATED_ROWS.matcher(normalized).replaceAll("$1, ...");
+
+        return WHITESPACE.matcher(normalized).replaceAll(" ").strip();
+    }
+}
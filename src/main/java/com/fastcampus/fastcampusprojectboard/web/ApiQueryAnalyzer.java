@@ -0,0 +1,117 @@
+package com.fastcampus.fastcampusprojectboard.web;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Spring Data REST 컬렉션 조회 파라미터를 실행 전에 분석해서 비용 등급을 매긴다.
+ * <ul>
+ *     <li>인덱스를 탈 수 있는 조건만 있으면 {@link Verdict#ALLOW}</li>
+ *     <li>인덱스 없는 컬럼 조건이 인덱스 조건과 함께 오면 {@link Verdict#THROTTLE}</li>
+ *     <li>인덱스 없는 컬럼 조건만 있거나, 인덱스 없는 컬럼 정렬, 너무 깊은 페이지면 {@link Verdict#REJECT}</li>
+ * </ul>
+ */
+public class ApiQueryAnalyzer {
+
+    enum Cost { INDEXED, SCAN }
+
+    public enum Verdict { ALLOW, THROTTLE, REJECT }
+
+    public record Result(Verdict verdict, String reason) {
+        static Result allow() { return new Result(Verdict.ALLOW, null); }
+        static Result throttle(String reason) { return new Result(Verdict.THROTTLE, reason); }
+        static Result reject(String reason) { return new Result(Verdict.REJECT, reason); }
+    }
+
+    private record ResourceRule(Map<String, Cost> filters, Set<String> sortableProperties) {}
+
+    // ArticleRepository, ArticleCommentRepository 의 Querydsl 바인딩과 엔티티 인덱스를 따른다
+    private static final Map<String, ResourceRule> RULES = Map.of(
+            "articles", new ResourceRule(
+                    Map.of(
+                            "title", Cost.INDEXED,
+                            "createdAt", Cost.INDEXED,
+                            "createdBy", Cost.INDEXED,
+                            "hashtags", Cost.INDEXED,
+                            "hashtags.hashtagName", Cost.INDEXED,
+                            "content", Cost.SCAN
+                    ),
+                    Set.of("id", "title", "createdAt", "createdBy")
+            ),
+            "articleComments", new ResourceRule(
+                    Map.of(
+                            "content", Cost.INDEXED,
+                            "createdAt", Cost.INDEXED,
+                            "createdBy", Cost.INDEXED
+                    ),
+                    Set.of("id", "content", "createdAt", "createdBy")
+            )
+    );
+
+    private final long maxOffset;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public ApiQueryAnalyzer(long maxOffset, int defaultPageSize, int maxPageSize) {
+        this.maxOffset = maxOffset;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    public Result analyze(String resource, Map<String, String[]> parameters) {
+        ResourceRule rule = RULES.get(resource);
+        if (rule == null) {
+            return Result.allow();
+        }
+
+        long offset = (long) intParameter(parameters, "page", 0) * pageSize(parameters);
+        if (offset > maxOffset) {
+            return Result.reject("페이지가 너무 깊습니다. 더 좁은 조건(createdAt 범위 등)으로 조회해주세요 - offset: " + offset);
+        }
+
+        for (String sort : parameters.getOrDefault("sort", new String[0])) {
+            String property = sort.split(",")[0];
+            if (!rule.sortableProperties().contains(property)) {
+                return Result.reject("인덱스가 없는 속성으로는 정렬할 수 없습니다 - sort: " + property);
+            }
+        }
+
+        boolean hasIndexedFilter = false;
+        boolean hasScanFilter = false;
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            Cost cost = rule.filters().get(parameter.getKey());
+            if (cost == null || Arrays.stream(parameter.getValue()).allMatch(String::isBlank)) {
+                continue;
+            }
+            hasIndexedFilter |= cost == Cost.INDEXED;
+            hasScanFilter |= cost == Cost.SCAN;
+        }
+
+        if (hasScanFilter && !hasIndexedFilter) {
+            return Result.reject("본문 검색은 제목, 작성자, 작성일시, 해시태그 조건과 함께 사용해야 합니다.");
+        }
+        if (hasScanFilter) {
+            return Result.throttle("본문 검색");
+        }
+        return Result.allow();
+    }
+
+    // Spring Data REST 가 실제로 쓰는 크기: 없거나 1 보다 작으면 기본 크기, max-page-size 보다 크면 max-page-size
+    private int pageSize(Map<String, String[]> parameters) {
+        int size = intParameter(parameters, "size", defaultPageSize);
+        return size < 1 ? defaultPageSize : Math.min(size, maxPageSize);
+    }
+
+    private static int intParameter(Map<String, String[]> parameters, String name, int defaultValue) {
+        String[] values = parameters.get(name);
+        if (values == null || values.length == 0) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(Integer.parseInt(values[0]), 0);
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
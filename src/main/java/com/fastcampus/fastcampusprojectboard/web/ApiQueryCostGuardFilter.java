@@ -0,0 +1,74 @@
+package com.fastcampus.fastcampusprojectboard.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Spring Data REST 컬렉션 조회({@code GET /api/{resource}})를 실행하기 전에 {@link ApiQueryAnalyzer} 로 검사한다.
+ * 거절 대상은 400, 동시 실행 한도를 넘은 비싼 조회는 429 로 바로 응답한다.
+ */
+@Slf4j
+public class ApiQueryCostGuardFilter extends OncePerRequestFilter {
+
+    private final String basePath;
+    private final ApiQueryAnalyzer analyzer;
+    private final Semaphore scanPermits;
+
+    public ApiQueryCostGuardFilter(String basePath, int defaultPageSize, int maxPageSize, ApiQueryGuardProperties properties) {
+        this.basePath = basePath;
+        this.analyzer = new ApiQueryAnalyzer(properties.maxOffset(), defaultPageSize, maxPageSize);
+        this.scanPermits = new Semaphore(properties.maxConcurrentScans());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod()) || resourceOf(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ApiQueryAnalyzer.Result result = analyzer.analyze(resourceOf(request), request.getParameterMap());
+
+        switch (result.verdict()) {
+            case ALLOW -> filterChain.doFilter(request, response);
+            case REJECT -> {
+                log.debug("비용이 큰 API 조회를 거절합니다 - uri: {}, reason: {}", request.getRequestURI(), result.reason());
+                response.sendError(HttpStatus.BAD_REQUEST.value(), result.reason());
+            }
+            case THROTTLE -> {
+                if (!scanPermits.tryAcquire()) {
+                    response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                    response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), result.reason() + " 요청이 많습니다. 잠시 후 다시 시도해주세요.");
+                    return;
+                }
+                try {
+                    filterChain.doFilter(request, response);
+                } finally {
+                    scanPermits.release();
+                }
+            }
+        }
+    }
+
+    // "/api/articles" 처럼 컬렉션 자원을 직접 조회할 때만 자원 이름을 돌려준다
+    private String resourceOf(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!path.startsWith(basePath + "/")) {
+            return null;
+        }
+
+        String resource = path.substring(basePath.length() + 1);
+        return resource.isEmpty() || resource.contains("/") ? null : resource;
+    }
+}
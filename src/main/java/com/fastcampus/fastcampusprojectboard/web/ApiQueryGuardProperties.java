@@ -0,0 +1,16 @@
+package com.fastcampus.fastcampusprojectboard.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * /api 조회 비용 제한 설정.
+ * {@code maxOffset} 보다 깊은 페이지는 거절하고, 인덱스를 못 타는 조건이 섞인 조회는 {@code maxConcurrentScans} 개까지만 동시에 실행한다.
+ */
+@ConfigurationProperties("board.api.query-guard")
+public record ApiQueryGuardProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10000") long maxOffset,
+        @DefaultValue("4") int maxConcurrentScans
+) {
+}
@@ -0,0 +1,110 @@
+package com.fastcampus.fastcampusprojectboard.web;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.LongSupplier;
+
+/**
+ * 뷰에서 순회할 때 비로소 DB 에서 {@code chunkSize} 건씩 읽어오는 페이지. (Thymeleaf 의 data-driver 변수 역할)
+ * <p>
+ * 템플릿이 {@code Page} 에서 쓰는 {@code number}, {@code size}, {@code sort}, {@code totalPages} 를 그대로 제공한다.
+ * 전체 건수(count 쿼리)는 {@code totalPages} 를 처음 읽을 때, 보통 목록을 다 그린 뒤 페이지 바에서 실행된다.
+ * 청크마다 별도 트랜잭션으로 읽으므로, 그 사이에 글이 추가/삭제되면 행이 밀리거나 겹칠 수 있다.
+ */
+public class ChunkedPage<T> implements Iterable<T> {
+
+    @FunctionalInterface
+    public interface ChunkLoader<T> {
+        List<T> load(long offset, int limit);
+    }
+
+    private final Pageable pageable;
+    private final int chunkSize;
+    private final ChunkLoader<T> chunkLoader;
+    private final LongSupplier totalCounter;
+    private final Runnable beforeChunk;
+    private Long totalElements;
+
+    /**
+     * @param beforeChunk 청크를 읽기 직전에 실행된다. 이미 그린 내용을 응답으로 flush 하는 데 쓴다.
+     */
+    public ChunkedPage(Pageable pageable, int chunkSize, ChunkLoader<T> chunkLoader, LongSupplier totalCounter, Runnable beforeChunk) {
+        this.pageable = pageable;
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.chunkLoader = chunkLoader;
+        this.totalCounter = totalCounter;
+        this.beforeChunk = beforeChunk;
+    }
+
+    public static <T> ChunkedPage<T> empty(Pageable pageable) {
+        return new ChunkedPage<>(pageable, 1, (offset, limit) -> List.of(), () -> 0L, () -> {});
+    }
+
+    public int getNumber() {
+        return pageable.getPageNumber();
+    }
+
+    public int getSize() {
+        return pageable.getPageSize();
+    }
+
+    public Sort getSort() {
+        return pageable.getSort();
+    }
+
+    public long getTotalElements() {
+        if (totalElements == null) {
+            totalElements = totalCounter.getAsLong();
+        }
+        return totalElements;
+    }
+
+    public int getTotalPages() {
+        return getSize() == 0 ? 1 : (int) Math.ceil((double) getTotalElements() / getSize());
+    }
+
+    /**
+     * 순회할 때마다 처음부터 다시 읽는다. 템플릿에서는 한 번만 순회한다.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private List<T> chunk = Collections.emptyList();
+            private int index;
+            private int position;
+            private boolean exhausted;
+
+            @Override
+            public boolean hasNext() {
+                if (index < chunk.size()) {
+                    return true;
+                }
+                if (exhausted || position >= getSize()) {
+                    return false;
+                }
+
+                int limit = Math.min(chunkSize, getSize() - position);
+                beforeChunk.run();
+                chunk = chunkLoader.load(pageable.getOffset() + position, limit);
+                index = 0;
+                position += chunk.size();
+                exhausted = chunk.size() < limit;
+
+                return !chunk.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return chunk.get(index++);
+            }
+        };
+    }
+}
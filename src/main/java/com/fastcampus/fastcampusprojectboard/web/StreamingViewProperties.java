@@ -0,0 +1,16 @@
+package com.fastcampus.fastcampusprojectboard.web;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 게시글 목록 화면 스트리밍 렌더링 설정.
+ * 켜면 헤더를 먼저 내보내고, 목록 행은 {@code chunkSize} 건씩 DB 에서 읽을 때마다 응답을 flush 한다.
+ */
+@ConfigurationProperties("board.view.streaming")
+public record StreamingViewProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("20") int chunkSize,
+        @DefaultValue("8KB") DataSize bufferSize
+) {}
@@ -0,0 +1,62 @@
+package com.fastcampus.fastcampusprojectboard.web;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.ICacheManager;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.exceptions.TemplateInputException;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+
+import java.io.Writer;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 기동할 때 게시판 화면 템플릿을 미리 파싱해서 템플릿 캐시에 넣는다.
+ * <p>
+ * 화면마다 HTML 과 {@code .th.xml} 로직 파일을 합쳐서 파싱하는데(decoupled logic), 캐시가 비어 있으면 첫 요청이 이 비용을 낸다.
+ * {@link ApplicationReadyEvent} 리스너가 끝나야 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌므로, 트래픽은 데워진 캐시로 받는다.
+ * 템플릿 캐시를 끈 경우(devtools 프로필의 핫 리로드)에는 아무것도 하지 않는다.
+ * <p>
+ * 컨트롤러가 뷰 이름을 돌려줄 때와 같은 {@link TemplateEngine#process} 로 화면을 그려서 캐시를 채운다.
+ * 엔진은 파싱한 템플릿을 캐시에 넣은 다음 그리므로, 요청 없이 그리다 {@code @{/...}} 링크에서 멈춰도 화면 템플릿은 캐시에 남는다.
+ * 화면마다 따로 캐시되는 header, footer 조각은 요청 안에서만 끼워 넣어지므로 첫 요청 때 파싱한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class TemplateCacheWarmer {
+
+    static final List<String> VIEWS = List.of("articles/index", "articles/detail", "articles/search-hashtag", "articles/form");
+
+    private final TemplateEngine templateEngine;
+    private final ThymeleafProperties thymeleafProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ICacheManager cacheManager = templateEngine.getConfiguration().getCacheManager();
+        if (!thymeleafProperties.isCache() || cacheManager == null || cacheManager.getTemplateCache() == null) {
+            log.debug("템플릿 캐시가 꺼져 있어 미리 파싱하지 않습니다.");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        for (String view : VIEWS) {
+            try {
+                templateEngine.process(view, new Context(Locale.getDefault()), Writer.nullWriter());
+            } catch (TemplateInputException e) {
+                throw e; // 템플릿이 없거나 파싱할 수 없으면 기동을 멈춘다
+            } catch (TemplateProcessingException e) {
+                log.debug("요청 없이 그릴 수 없는 부분에서 멈췄습니다 - view: {}, reason: {}", view, e.getMessage());
+            }
+        }
+
+        log.info("템플릿 {}개를 미리 파싱했습니다 - {}ms, 캐시 항목 {}개",
+                VIEWS.size(), (System.nanoTime() - startedAt) / 1_000_000, cacheManager.getTemplateCache().size());
+    }
+}
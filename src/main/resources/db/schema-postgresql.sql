@@ -0,0 +1,139 @@
+-- 운영(PostgreSQL) 스키마. prod 프로파일은 ddl-auto: none 이라 기동할 때 테이블을 만들지 않으므로,
+-- 처음 배포하기 전과 엔티티를 바꾼 배포 전에 psql -f src/main/resources/db/schema-postgresql.sql 로 먼저 적용한다.
+-- 모든 문장이 IF NOT EXISTS 라 이미 적용된 DB 에 다시 돌려도 된다. 컬럼 정의는 domain 엔티티와 맞춘다.
+
+CREATE TABLE IF NOT EXISTS user_account (
+    user_id       VARCHAR(50)  NOT NULL PRIMARY KEY,
+    user_password VARCHAR(255) NOT NULL,
+    email         VARCHAR(100),
+    nickname      VARCHAR(100),
+    memo          VARCHAR(255),
+    created_at    TIMESTAMP(6) NOT NULL,
+    created_by    VARCHAR(100) NOT NULL,
+    modified_at   TIMESTAMP(6) NOT NULL,
+    modified_by   VARCHAR(100) NOT NULL
+);
+CREATE UNIQUE INDEX IF NOT EXISTS ux_user_account_email ON user_account (email);
+CREATE INDEX IF NOT EXISTS ix_user_account_created_at ON user_account (created_at);
+CREATE INDEX IF NOT EXISTS ix_user_account_created_by ON user_account (created_by);
+
+CREATE TABLE IF NOT EXISTS article (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id     VARCHAR(50)    NOT NULL REFERENCES user_account (user_id),
+    title       VARCHAR(255)   NOT NULL,
+    content     VARCHAR(10000) NOT NULL,
+    view_count  BIGINT         NOT NULL DEFAULT 0,
+    created_at  TIMESTAMP(6)   NOT NULL,
+    created_by  VARCHAR(100)   NOT NULL,
+    modified_at TIMESTAMP(6)   NOT NULL,
+    modified_by VARCHAR(100)   NOT NULL
+);
+CREATE INDEX IF NOT EXISTS ix_article_title ON article (title);
+CREATE INDEX IF NOT EXISTS ix_article_created_at ON article (created_at);
+CREATE INDEX IF NOT EXISTS ix_article_created_by ON article (created_by);
+
+CREATE TABLE IF NOT EXISTS article_comment (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    article_id        BIGINT       NOT NULL REFERENCES article (id),
+    user_id           VARCHAR(50)  NOT NULL REFERENCES user_account (user_id),
+    parent_comment_id BIGINT,
+    content           VARCHAR(500) NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    created_by        VARCHAR(100) NOT NULL,
+    modified_at       TIMESTAMP(6) NOT NULL,
+    modified_by       VARCHAR(100) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS ix_article_comment_content ON article_comment (content);
+CREATE INDEX IF NOT EXISTS ix_article_comment_created_at ON article_comment (created_at);
+CREATE INDEX IF NOT EXISTS ix_article_comment_created_by ON article_comment (created_by);
+
+CREATE TABLE IF NOT EXISTS hashtag (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    hashtag_name VARCHAR(255) NOT NULL,
+    created_at   TIMESTAMP(6) NOT NULL,
+    created_by   VARCHAR(100) NOT NULL,
+    modified_at  TIMESTAMP(6) NOT NULL,
+    modified_by  VARCHAR(100) NOT NULL
+);
+-- HashtagJdbcRepository 의 ON CONFLICT (hashtag_name) 가 이 unique 인덱스에 기댄다
+CREATE UNIQUE INDEX IF NOT EXISTS ux_hashtag_hashtag_name ON hashtag (hashtag_name);
+CREATE INDEX IF NOT EXISTS ix_hashtag_created_at ON hashtag (created_at);
+CREATE INDEX IF NOT EXISTS ix_hashtag_created_by ON hashtag (created_by);
+
+CREATE TABLE IF NOT EXISTS article_hashtag (
+    article_id BIGINT NOT NULL REFERENCES article (id),
+    hashtag_id BIGINT NOT NULL REFERENCES hashtag (id),
+    PRIMARY KEY (article_id, hashtag_id)
+);
+
+-- 보관 테이블: 원본 ID 를 그대로 옮겨 오므로 ID 를 생성하지 않는다
+CREATE TABLE IF NOT EXISTS article_archive (
+    id          BIGINT         NOT NULL PRIMARY KEY,
+    user_id     VARCHAR(50)    NOT NULL REFERENCES user_account (user_id),
+    title       VARCHAR(255)   NOT NULL,
+    content     VARCHAR(10000) NOT NULL,
+    view_count  BIGINT         NOT NULL,
+    archived_at TIMESTAMP(6)   NOT NULL,
+    created_at  TIMESTAMP(6)   NOT NULL,
+    created_by  VARCHAR(100)   NOT NULL,
+    modified_at TIMESTAMP(6)   NOT NULL,
+    modified_by VARCHAR(100)   NOT NULL
+);
+CREATE INDEX IF NOT EXISTS ix_article_archive_title ON article_archive (title);
+CREATE INDEX IF NOT EXISTS ix_article_archive_created_at ON article_archive (created_at);
+CREATE INDEX IF NOT EXISTS ix_article_archive_created_by ON article_archive (created_by);
+
+CREATE TABLE IF NOT EXISTS article_comment_archive (
+    id                BIGINT       NOT NULL PRIMARY KEY,
+    article_id        BIGINT       NOT NULL REFERENCES article_archive (id),
+    user_id           VARCHAR(50)  NOT NULL REFERENCES user_account (user_id),
+    parent_comment_id BIGINT,
+    content           VARCHAR(500) NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    created_by        VARCHAR(100) NOT NULL,
+    modified_at       TIMESTAMP(6) NOT NULL,
+    modified_by       VARCHAR(100) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS ix_article_comment_archive_article_id ON article_comment_archive (article_id);
+CREATE INDEX IF NOT EXISTS ix_article_comment_archive_created_at ON article_comment_archive (created_at);
+CREATE INDEX IF NOT EXISTS ix_article_comment_archive_created_by ON article_comment_archive (created_by);
+
+CREATE TABLE IF NOT EXISTS article_hashtag_archive (
+    article_id BIGINT NOT NULL REFERENCES article_archive (id),
+    hashtag_id BIGINT NOT NULL REFERENCES hashtag (id),
+    PRIMARY KEY (article_id, hashtag_id)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    seq            BIGINT,
+    aggregate_type VARCHAR(20)  NOT NULL,
+    aggregate_id   BIGINT       NOT NULL,
+    change_type    VARCHAR(10)  NOT NULL,
+    created_at     TIMESTAMP(6) NOT NULL
+);
+CREATE UNIQUE INDEX IF NOT EXISTS ux_outbox_event_seq ON outbox_event (seq);
+CREATE INDEX IF NOT EXISTS ix_outbox_event_created_at ON outbox_event (created_at);
+
+CREATE TABLE IF NOT EXISTS outbox_offset (
+    consumer_name VARCHAR(100) NOT NULL PRIMARY KEY,
+    last_seq      BIGINT       NOT NULL,
+    modified_at   TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS idempotency_record (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id         VARCHAR(50)  NOT NULL,
+    idempotency_key VARCHAR(64)  NOT NULL,
+    response        VARCHAR(255),
+    created_at      TIMESTAMP(6) NOT NULL
+);
+-- IdempotencyJdbcRepository 의 ON CONFLICT (user_id, idempotency_key) 가 이 unique 인덱스에 기댄다
+CREATE UNIQUE INDEX IF NOT EXISTS ux_idempotency_record_user_id_idempotency_key ON idempotency_record (user_id, idempotency_key);
+CREATE INDEX IF NOT EXISTS ix_idempotency_record_created_at ON idempotency_record (created_at);
+
+CREATE TABLE IF NOT EXISTS article_import_checkpoint (
+    source      VARCHAR(500) NOT NULL PRIMARY KEY,
+    consumed    BIGINT       NOT NULL,
+    modified_at TIMESTAMP(6) NOT NULL
+);
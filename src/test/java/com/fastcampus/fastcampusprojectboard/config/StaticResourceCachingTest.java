@@ -0,0 +1,45 @@
+package com.fastcampus.fastcampusprojectboard.config;
+
+import com.fastcampus.fastcampusprojectboard.controller.MainController;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.resource.ResourceUrlProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("설정 - 정적 파일 캐시")
+@Import(TestSecurityConfig.class)
+@WebMvcTest(MainController.class)
+class StaticResourceCachingTest {
+
+    private final MockMvc mvc;
+    private final ResourceUrlProvider resourceUrlProvider;
+
+    StaticResourceCachingTest(@Autowired MockMvc mvc, @Autowired ResourceUrlProvider resourceUrlProvider) {
+        this.mvc = mvc;
+        this.resourceUrlProvider = resourceUrlProvider;
+    }
+
+    @DisplayName("css 주소를 요청하면, 내용 해시가 붙은 주소로 바꾸고 immutable 로 캐시하게 한다.")
+    @Test
+    void givenCssPath_whenRequestingVersionedUrl_thenServesWithImmutableCacheControl() throws Exception {
+        // Given
+        String versionedUrl = resourceUrlProvider.getForLookupPath("/css/search-bar.css");
+
+        // When & Then
+        assertThat(versionedUrl).matches("/css/search-bar-[0-9a-f]{32}\\.css");
+        mvc.perform(get(versionedUrl))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=31536000")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")));
+    }
+}
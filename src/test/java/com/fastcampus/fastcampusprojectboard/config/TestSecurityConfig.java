@@ -2,6 +2,7 @@ package com.fastcampus.fastcampusprojectboard.config;
 
 import com.fastcampus.fastcampusprojectboard.domain.UserAccount;
 import com.fastcampus.fastcampusprojectboard.repository.UserAccountRepository;
+import com.fastcampus.fastcampusprojectboard.security.BoardTokenService;
 import org.mockito.ArgumentMatchers;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
@@ -12,7 +13,7 @@ import java.util.Optional;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 
-@Import(SecurityConfig.class)
+@Import({SecurityConfig.class, BoardTokenService.class})
 public class TestSecurityConfig {
 
     @MockBean private UserAccountRepository userAccountRepository;
@@ -4,6 +4,7 @@ import com.fastcampus.fastcampusprojectboard.config.SecurityConfig;
 import com.fastcampus.fastcampusprojectboard.dto.ArticleCommentDto;
 import com.fastcampus.fastcampusprojectboard.dto.request.ArticleCommentRequest;
 import com.fastcampus.fastcampusprojectboard.service.ArticleCommentService;
+import com.fastcampus.fastcampusprojectboard.service.IdempotencyService;
 import com.fastcampus.fastcampusprojectboard.util.FormDataEncoder;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,8 +18,11 @@ import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.willDoNothing;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -35,6 +39,7 @@ class ArticleCommentControllerTest {
     private final FormDataEncoder formDataEncoder;
 
     @MockBean private ArticleCommentService articleCommentService;
+    @MockBean private IdempotencyService idempotencyService;
 
     public ArticleCommentControllerTest(
             @Autowired MockMvc mvc,
@@ -51,6 +56,7 @@ class ArticleCommentControllerTest {
         long articleId = 1L;
         ArticleCommentRequest request = ArticleCommentRequest.of(articleId, "test comment");
         willDoNothing().given(articleCommentService).saveArticleComment(any(ArticleCommentDto.class));
+        given(idempotencyService.execute(anyString(), any(), any())).willAnswer(invocation -> invocation.<Supplier<String>>getArgument(2).get());
 
         // When & Then
         mvc.perform(
@@ -95,6 +101,7 @@ class ArticleCommentControllerTest {
         long articleId = 1L;
         ArticleCommentRequest request = ArticleCommentRequest.of(articleId, 1L, "test comment");
         willDoNothing().given(articleCommentService).saveArticleComment(any(ArticleCommentDto.class));
+        given(idempotencyService.execute(anyString(), any(), any())).willAnswer(invocation -> invocation.<Supplier<String>>getArgument(2).get());
 
         // When & Then
         mvc.perform(
@@ -0,0 +1,185 @@
+package com.fastcampus.fastcampusprojectboard.controller;
+
+import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.fastcampus.fastcampusprojectboard.dto.request.ArticleRequest;
+import com.fastcampus.fastcampusprojectboard.metrics.SqlBudget;
+import com.fastcampus.fastcampusprojectboard.repository.ArticleRepository;
+import com.fastcampus.fastcampusprojectboard.repository.UserAccountRepository;
+import com.fastcampus.fastcampusprojectboard.util.FormDataEncoder;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.TestExecutionEvent;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 실제 리포지토리와 data.sql 데이터로 게시글 화면을 요청해서, 핸들러마다 실행된 JDBC 문장 수가 {@link SqlBudget} 안인지 확인한다.
+ * 테스트 설정은 fail 모드라 예산을 넘으면 {@code SqlBudgetExceededException} 으로 요청 자체가 실패한다.
+ * 실행된 문장 수는 요청별 통계 필터가 남긴 {@code board.request.jdbc.statements} 로 읽는다.
+ */
+@DisplayName("View Controller - 게시글 SQL 예산 (실제 DB)")
+@Import(FormDataEncoder.class)
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+@SpringBootTest(properties = "board.rate-limit.enabled=false")
+class ArticleControllerSqlBudgetTest {
+
+    private final MockMvc mvc;
+    private final FormDataEncoder formDataEncoder;
+    private final MeterRegistry meterRegistry;
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+
+    ArticleControllerSqlBudgetTest(
+            @Autowired MockMvc mvc,
+            @Autowired FormDataEncoder formDataEncoder,
+            @Autowired MeterRegistry meterRegistry,
+            @Autowired ArticleRepository articleRepository,
+            @Autowired UserAccountRepository userAccountRepository
+    ) {
+        this.mvc = mvc;
+        this.formDataEncoder = formDataEncoder;
+        this.meterRegistry = meterRegistry;
+        this.articleRepository = articleRepository;
+        this.userAccountRepository = userAccountRepository;
+    }
+
+    @DisplayName("[GET] 게시글 리스트 - 5 문장 안에서 그린다")
+    @Test
+    void givenTestData_whenRequestingArticlesView_thenStaysWithinSqlBudget() throws Exception {
+        // When & Then
+        mvc.perform(get("/articles"))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget(5));
+        assertThat(executedStatements("GET", "/articles")).isBetween(1L, 5L);
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[GET] 게시글 상세 - 8 문장 안에서 그린다")
+    @Test
+    void givenTestData_whenRequestingArticleView_thenStaysWithinSqlBudget() throws Exception {
+        // When & Then
+        mvc.perform(get("/articles/1"))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget(8));
+        assertThat(executedStatements("GET", "/articles/{articleId}")).isBetween(1L, 8L);
+    }
+
+    @DisplayName("[GET] 해시태그 검색 - 6 문장 안에서 그린다")
+    @Test
+    void givenTestData_whenSearchingArticlesViaHashtag_thenStaysWithinSqlBudget() throws Exception {
+        // When & Then
+        mvc.perform(get("/articles/search-hashtag").queryParam("searchValue", "#pink #blue"))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget(6));
+        assertThat(executedStatements("GET", "/articles/search-hashtag")).isBetween(1L, 6L);
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[GET] 새 게시글 작성 페이지 - SQL 을 실행하지 않는다")
+    @Test
+    void givenNothing_whenRequestingNewArticleView_thenExecutesNoSql() throws Exception {
+        // When & Then
+        mvc.perform(get("/articles/form"))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget(0));
+        assertThat(executedStatements("GET", "/articles/form")).isZero();
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[POST] 새 게시글 등록 - 12 문장 안에서 저장한다")
+    @Test
+    void givenNewArticleInfo_whenPostingArticle_thenStaysWithinSqlBudget() throws Exception {
+        // Given
+        ArticleRequest articleRequest = ArticleRequest.of("new title", "new content #sql_budget_new #pink");
+
+        // When & Then
+        mvc.perform(post("/articles/form")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .content(formDataEncoder.encode(articleRequest))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(sqlBudget(12));
+        assertThat(executedStatements("POST", "/articles/form")).isBetween(1L, 12L);
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[GET] 게시글 수정 페이지 - 4 문장 안에서 그린다")
+    @Test
+    void givenTestData_whenRequestingUpdateArticleView_thenStaysWithinSqlBudget() throws Exception {
+        // When & Then
+        mvc.perform(get("/articles/1/form"))
+                .andExpect(status().isOk())
+                .andExpect(sqlBudget(4));
+        assertThat(executedStatements("GET", "/articles/{articleId}/form")).isBetween(1L, 4L);
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[POST] 게시글 수정 - 12 문장 안에서 저장한다")
+    @Test
+    void givenUpdatedArticleInfo_whenUpdatingArticle_thenStaysWithinSqlBudget() throws Exception {
+        // Given
+        Article article = saveArticleOfUno("#sql_budget_before");
+        ArticleRequest articleRequest = ArticleRequest.of("updated title", "updated content #sql_budget_after");
+
+        // When & Then
+        mvc.perform(post("/articles/" + article.getId() + "/form")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .content(formDataEncoder.encode(articleRequest))
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(sqlBudget(12));
+        assertThat(executedStatements("POST", "/articles/{articleId}/form")).isBetween(1L, 12L);
+    }
+
+    @WithUserDetails(value = "uno", setupBefore = TestExecutionEvent.TEST_EXECUTION)
+    @DisplayName("[POST] 게시글 삭제 - 12 문장 안에서 지운다")
+    @Test
+    void givenArticleOfUser_whenDeletingArticle_thenStaysWithinSqlBudget() throws Exception {
+        // Given
+        Article article = saveArticleOfUno("#sql_budget_delete");
+
+        // When & Then
+        mvc.perform(post("/articles/" + article.getId() + "/delete")
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .with(csrf()))
+                .andExpect(status().is3xxRedirection())
+                .andExpect(sqlBudget(12));
+        assertThat(executedStatements("POST", "/articles/{articleId}/delete")).isBetween(1L, 12L);
+    }
+
+    private Article saveArticleOfUno(String content) {
+        return articleRepository.save(Article.of(userAccountRepository.findById("uno").orElseThrow(), "title", content));
+    }
+
+    // 핸들러에 붙은 예산이 이 테스트가 확인하는 값과 같은지 본다
+    private static ResultMatcher sqlBudget(int expected) {
+        return result -> assertThat(((HandlerMethod) result.getHandler()).getMethodAnnotation(SqlBudget.class))
+                .extracting(SqlBudget::value)
+                .isEqualTo(expected);
+    }
+
+    // 요청별 통계 필터는 문장을 하나도 실행하지 않은 요청을 남기지 않는다
+    private long executedStatements(String method, String uri) {
+        DistributionSummary summary = meterRegistry.find("board.request.jdbc.statements")
+                .tags("method", method, "uri", uri)
+                .summary();
+        return summary == null ? 0 : (long) summary.max();
+    }
+}
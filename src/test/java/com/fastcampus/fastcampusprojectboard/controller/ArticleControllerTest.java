@@ -10,6 +10,8 @@ import com.fastcampus.fastcampusprojectboard.dto.UserAccountDto;
 import com.fastcampus.fastcampusprojectboard.dto.request.ArticleRequest;
 import com.fastcampus.fastcampusprojectboard.dto.response.ArticleResponse;
 import com.fastcampus.fastcampusprojectboard.service.ArticleService;
+import com.fastcampus.fastcampusprojectboard.service.ArticleViewCountService;
+import com.fastcampus.fastcampusprojectboard.service.IdempotencyService;
 import com.fastcampus.fastcampusprojectboard.service.PaginationService;
 import com.fastcampus.fastcampusprojectboard.util.FormDataEncoder;
 import org.junit.jupiter.api.DisplayName;
@@ -31,6 +33,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.*;
@@ -50,6 +53,8 @@ class ArticleControllerTest {
 
     @MockBean private ArticleService articleService;
     @MockBean private PaginationService paginationService;
+    @MockBean private ArticleViewCountService articleViewCountService;
+    @MockBean private IdempotencyService idempotencyService;
 
     public ArticleControllerTest(@Autowired MockMvc mvc,
                                  @Autowired FormDataEncoder formDataEncoder) {
@@ -98,6 +103,28 @@ class ArticleControllerTest {
         then(paginationService).should().getPaginationBarNumbers(anyInt(), anyInt());
     }
 
+    @DisplayName("[view][GET] 게시글 리스트 (게시판) 페이지 - 보관된 글에서 찾기")
+    @Test
+    public void givenArchivedFlag_whenSearchingArticlesView_thenSearchesArchivedArticles() throws Exception {
+
+        SearchType searchType = SearchType.TITLE;
+        String searchValue = "title";
+        given(articleService.searchArchivedArticles(eq(searchType), eq(searchValue), any(Pageable.class))).willReturn(Page.empty());
+        given(paginationService.getPaginationBarNumbers(anyInt(), anyInt())).willReturn(List.of(0, 1, 2, 3, 4));
+
+        // When & Then
+        mvc.perform(get("/articles")
+                        .queryParam("searchType", searchType.name())
+                        .queryParam("searchValue", searchValue)
+                        .queryParam("archived", "true")
+                )
+                .andExpect(status().isOk())
+                .andExpect(view().name("articles/index"))
+                .andExpect(model().attributeExists("articles"));
+        then(articleService).should().searchArchivedArticles(eq(searchType), eq(searchValue), any(Pageable.class));
+        then(articleService).should(never()).searchArticles(any(), any(), any(Pageable.class));
+    }
+
     @DisplayName("[view][GET] 게시글 리스트(게시판) 페이지 - 페이징, 정렬 기능")
     @Test
     void givenPagingAndSortingParams_whenSearchingArticlesPage_thenReturnsArticlesPage() throws Exception {
@@ -140,6 +167,7 @@ class ArticleControllerTest {
                 .andExpect(model().attributeExists("article"));
 
         then(articleService).should().getArticle(articleId);
+        then(articleViewCountService).should().increment(articleId);
     }
 
     @DisplayName("[view][GET] 게시글 검색 전용 페이지 - 정상 호출")
@@ -218,6 +246,7 @@ class ArticleControllerTest {
 
         ArticleRequest articleRequest = ArticleRequest.of("new title", "new content");
         willDoNothing().given(articleService).saveArticle(any(ArticleDto.class));
+        given(idempotencyService.execute(anyString(), any(), any())).willAnswer(invocation -> invocation.<Supplier<String>>getArgument(2).get());
 
         mvc.perform(post("/articles/form")
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
@@ -229,6 +258,7 @@ class ArticleControllerTest {
                 .andExpect(redirectedUrl("/articles"));
 
         then(articleService).should().saveArticle(any(ArticleDto.class));
+        then(idempotencyService).should().execute(eq("hacoTest"), isNull(), any());
     }
 
     @WithMockUser
@@ -0,0 +1,54 @@
+package com.fastcampus.fastcampusprojectboard.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DataSource - read-your-writes 쿠키")
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration WINDOW = Duration.ofSeconds(5);
+
+    private final ReadYourWritesFilter sut = new ReadYourWritesFilter(
+            new ReplicaDataSourceProperties(List.of(), WINDOW, "BOARD_PRIMARY_UNTIL"),
+            Clock.fixed(NOW, ZoneOffset.UTC)
+    );
+
+    @DisplayName("쿠키 시각이 지금부터 window 안쪽이면, 요청을 주 DB 로 고정한다")
+    @Test
+    void givenCookieWithinWindow_whenFiltering_thenPinsToPrimary() throws Exception {
+        // When & Then
+        assertThat(pinnedWith(NOW.plus(WINDOW).toEpochMilli())).isTrue();
+    }
+
+    @DisplayName("쿠키 시각이 지났거나 window 보다 먼 미래면, 고정하지 않는다")
+    @Test
+    void givenExpiredOrFarFutureCookie_whenFiltering_thenDoesNotPin() throws Exception {
+        // When & Then
+        assertThat(pinnedWith(NOW.toEpochMilli())).isFalse();
+        assertThat(pinnedWith(NOW.plus(WINDOW).plusMillis(1).toEpochMilli())).isFalse();
+        assertThat(pinnedWith(Long.MAX_VALUE)).isFalse();
+    }
+
+    private boolean pinnedWith(long primaryUntil) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("BOARD_PRIMARY_UNTIL", String.valueOf(primaryUntil)));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        sut.doFilter(request, new MockHttpServletResponse(), (req, res) -> pinned.set(ReplicaRoutingContext.isPinnedToPrimary()));
+
+        return pinned.get();
+    }
+}
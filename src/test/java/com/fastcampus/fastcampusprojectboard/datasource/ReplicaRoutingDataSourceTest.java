@@ -0,0 +1,190 @@
+package com.fastcampus.fastcampusprojectboard.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 주 DB 와 복제본 역할을 하는 임베디드 DB 두 개로 라우팅을 검증한다.
+ * 각 DB 의 marker 테이블에 자기 이름을 넣어두고, 어느 쪽에서 읽었는지 확인한다.
+ */
+@DisplayName("DataSource - 읽기 전용 복제본 라우팅")
+class ReplicaRoutingDataSourceTest {
+
+    private EmbeddedDatabase primary;
+    private EmbeddedDatabase replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private LazyConnectionDataSourceProxy dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica));
+        routingDataSource.afterPropertiesSet();
+
+        dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.end();
+        primary.shutdown();
+        replica.shutdown();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 복제본으로, 쓰기 트랜잭션은 주 DB 로 간다")
+    @Test
+    void givenTransactions_whenQuerying_thenRoutesByReadOnlyFlag() {
+        // Given
+        // When
+        String readFrom = readOnly.execute(status -> currentDatabase());
+        String writeTo = readWrite.execute(status -> currentDatabase());
+
+        // Then
+        assertThat(readFrom).isEqualTo("replica");
+        assertThat(writeTo).isEqualTo("primary");
+    }
+
+    @DisplayName("요청 안에서 쓰기가 커밋되면, 이후 읽기는 주 DB 로 가고 고정 콜백이 한 번만 실행된다")
+    @Test
+    void givenCommittedWrite_whenReadingInSameRequest_thenReadsFromPrimary() {
+        // Given
+        AtomicInteger pinned = new AtomicInteger();
+        ReplicaRoutingContext.begin(false, pinned::incrementAndGet);
+
+        // When
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("insert into marker (name) values ('written')"));
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("insert into marker (name) values ('written again')"));
+        String readFrom = readOnly.execute(status -> currentDatabase());
+
+        // Then
+        assertThat(readFrom).isEqualTo("primary");
+        assertThat(pinned).hasValue(1);
+    }
+
+    @DisplayName("쓰기가 롤백되면, 읽기는 계속 복제본으로 간다")
+    @Test
+    void givenRolledBackWrite_whenReading_thenReadsFromReplica() {
+        // Given
+        AtomicInteger pinned = new AtomicInteger();
+        ReplicaRoutingContext.begin(false, pinned::incrementAndGet);
+
+        // When
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("insert into marker (name) values ('written')");
+            status.setRollbackOnly();
+        });
+        String readFrom = readOnly.execute(status -> currentDatabase());
+
+        // Then
+        assertThat(readFrom).isEqualTo("replica");
+        assertThat(pinned).hasValue(0);
+    }
+
+    @DisplayName("최근에 쓴 사용자의 요청이면, 처음부터 주 DB 에서 읽는다")
+    @Test
+    void givenPinnedRequest_whenReading_thenReadsFromPrimary() {
+        // Given
+        ReplicaRoutingContext.begin(true, () -> {});
+
+        // When
+        String readFrom = readOnly.execute(status -> currentDatabase());
+
+        // Then
+        assertThat(readFrom).isEqualTo("primary");
+    }
+
+    // 운영과 같은 JpaTransactionManager + Hibernate 조합에서는 트랜잭션 시작 시 커넥션을 잡으므로, 지연 커넥션 프록시가 있어야 라우팅된다
+    @DisplayName("JPA 트랜잭션에서도, 읽기 전용은 복제본으로 가고 쓰기가 커밋되면 주 DB 로 고정된다")
+    @Test
+    void givenJpaTransactions_whenQuerying_thenRoutesByReadOnlyFlagAndPinsAfterWrite() {
+        // Given
+        LocalContainerEntityManagerFactoryBean factoryBean = entityManagerFactory(dataSource);
+        EntityManagerFactory entityManagerFactory = factoryBean.getObject();
+        EntityManager entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        TransactionTemplate jpaReadWrite = new TransactionTemplate(transactionManager);
+        TransactionTemplate jpaReadOnly = new TransactionTemplate(transactionManager);
+        jpaReadOnly.setReadOnly(true);
+        AtomicInteger pinned = new AtomicInteger();
+        ReplicaRoutingContext.begin(false, pinned::incrementAndGet);
+
+        // When
+        String readBeforeWrite;
+        String readAfterWrite;
+        try {
+            readBeforeWrite = jpaReadOnly.execute(status -> currentDatabase(entityManager));
+            jpaReadWrite.executeWithoutResult(status ->
+                    entityManager.createNativeQuery("insert into marker (name) values ('written')").executeUpdate());
+            readAfterWrite = jpaReadOnly.execute(status -> currentDatabase(entityManager));
+        } finally {
+            factoryBean.destroy();
+        }
+
+        // Then
+        assertThat(readBeforeWrite).isEqualTo("replica");
+        assertThat(readAfterWrite).isEqualTo("primary");
+        assertThat(pinned).hasValue(1);
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select name from marker order by id limit 1", String.class);
+    }
+
+    private static String currentDatabase(EntityManager entityManager) {
+        return (String) entityManager.createNativeQuery("select name from marker order by id limit 1").getSingleResult();
+    }
+
+    // 엔티티 없이 Hibernate 만 띄운다. 애플리케이션의 2차 캐시 설정은 application.yaml 에만 있으므로 여기서는 꺼져 있다
+    private static LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(ReplicaRoutingDataSourceTest.class.getPackageName());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "none"));
+        factoryBean.afterPropertiesSet();
+        return factoryBean;
+    }
+
+    private static EmbeddedDatabase embeddedDatabase(String name) {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .setName(name)
+                .generateUniqueName(false)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("create table marker (id bigint auto_increment primary key, name varchar(50))");
+        jdbcTemplate.update("insert into marker (name) values (?)", name);
+        return database;
+    }
+}
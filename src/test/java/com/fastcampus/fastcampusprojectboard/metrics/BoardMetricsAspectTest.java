@@ -0,0 +1,89 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.SearchType;
+import com.fastcampus.fastcampusprojectboard.repository.ArchivedArticleRepository;
+import com.fastcampus.fastcampusprojectboard.repository.ArticleRepository;
+import com.fastcampus.fastcampusprojectboard.repository.HashtagRepository;
+import com.fastcampus.fastcampusprojectboard.repository.UserAccountRepository;
+import com.fastcampus.fastcampusprojectboard.service.ArticleService;
+import com.fastcampus.fastcampusprojectboard.service.HashtagService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+
+@DisplayName("메트릭 - 게시판 핵심 경로 타이머")
+@ExtendWith(MockitoExtension.class)
+class BoardMetricsAspectTest {
+
+    @Mock private ArticleRepository articleRepository;
+    @Mock private UserAccountRepository userAccountRepository;
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagService hashtagService;
+    @Mock private ArchivedArticleRepository archivedArticleRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ArticleService sut;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sut = proxy(new ArticleService(hashtagService, articleRepository, userAccountRepository, hashtagRepository, archivedArticleRepository));
+    }
+
+    @DisplayName("검색 타입과 함께 게시글을 검색하면, 검색 타입 태그가 붙은 타이머에 기록된다")
+    @Test
+    void givenSearchType_whenSearchingArticles_thenRecordsTimerTaggedBySearchType() {
+        // Given
+        Pageable pageable = Pageable.ofSize(20);
+        given(articleRepository.findByTitleContaining("title", pageable)).willReturn(Page.empty());
+        given(articleRepository.findAll(pageable)).willReturn(Page.empty());
+
+        // When
+        sut.searchArticles(SearchType.TITLE, "title", pageable);
+        sut.searchArticles(SearchType.TITLE, "title", pageable);
+        sut.searchArticles(SearchType.TITLE, null, pageable);
+
+        // Then
+        assertThat(meterRegistry.get("board.article.search").tag("searchType", "TITLE").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("board.article.search").tag("searchType", "ALL").timer().count()).isEqualTo(1);
+    }
+
+    @DisplayName("게시글 조회가 실패하면, 예외 태그와 함께 기록된다")
+    @Test
+    void givenNonexistentArticle_whenReadingArticle_thenRecordsTimerWithExceptionTag() {
+        // Given
+        given(articleRepository.findById(anyLong())).willReturn(Optional.empty());
+
+        // When
+        Throwable t = catchThrowable(() -> sut.getArticleWithComments(1L));
+
+        // Then
+        assertThat(t).isInstanceOf(EntityNotFoundException.class);
+        assertThat(meterRegistry.get("board.article.read")
+                .tag("exception", "EntityNotFoundException")
+                .timer()
+                .count()
+        ).isEqualTo(1);
+    }
+
+    private ArticleService proxy(ArticleService target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new BoardMetricsAspect(meterRegistry));
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,117 @@
+package com.fastcampus.fastcampusprojectboard.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("메트릭 - 요청별 SQL 예산")
+class SqlBudgetInterceptorTest {
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.clear();
+    }
+
+    @DisplayName("fail 모드에서 예산을 넘으면, 요청이 끝난 뒤 예외를 던진다")
+    @Test
+    void givenFailModeAndExceededBudget_whenHandling_thenThrowsException() throws Exception {
+        // Given
+        SqlBudgetInterceptor sut = new SqlBudgetInterceptor(new SqlBudgetProperties(true, SqlBudgetProperties.Mode.FAIL));
+        HandlerMethod handler = new HandlerMethod(new Handlers(), "budgetOfTwo");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // When
+        handle(sut, request, handler, 3);
+        Throwable t = catchThrowable(() -> SqlBudgetInterceptor.rethrowIfExceeded(request));
+
+        // Then
+        assertThat(t)
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("budget: 2, executed: 3");
+        assertThat(SqlStatementCounter.current()).isNull();
+    }
+
+    @DisplayName("warn 모드이거나 예산 안이면, 요청을 그대로 통과시킨다")
+    @Test
+    void givenWarnModeOrWithinBudget_whenHandling_thenPasses() throws Exception {
+        // Given
+        SqlBudgetInterceptor warn = new SqlBudgetInterceptor(new SqlBudgetProperties(true, SqlBudgetProperties.Mode.WARN));
+        SqlBudgetInterceptor fail = new SqlBudgetInterceptor(new SqlBudgetProperties(true, SqlBudgetProperties.Mode.FAIL));
+        HandlerMethod handler = new HandlerMethod(new Handlers(), "budgetOfTwo");
+
+        MockHttpServletRequest warnRequest = new MockHttpServletRequest();
+        MockHttpServletRequest failRequest = new MockHttpServletRequest();
+
+        // When
+        handle(warn, warnRequest, handler, 3);
+        handle(fail, failRequest, handler, 2);
+
+        // Then
+        assertThatNoException().isThrownBy(() -> SqlBudgetInterceptor.rethrowIfExceeded(warnRequest));
+        assertThatNoException().isThrownBy(() -> SqlBudgetInterceptor.rethrowIfExceeded(failRequest));
+    }
+
+    @DisplayName("뷰 렌더링 중에 실행된 SQL 도, 핸들러 예산에 넣는다")
+    @Test
+    void givenStatementsWhileRendering_whenHandling_thenCountsRenderingStatements() throws Exception {
+        // Given
+        SqlBudgetInterceptor sut = new SqlBudgetInterceptor(new SqlBudgetProperties(true, SqlBudgetProperties.Mode.FAIL));
+        HandlerMethod handler = new HandlerMethod(new Handlers(), "budgetOfTwo");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        sut.preHandle(request, response, handler);
+        executeStatements(2);
+        sut.postHandle(request, response, handler, null);
+        executeStatements(1); // 템플릿에서 지연 로딩
+        sut.afterCompletion(request, response, handler, null);
+
+        // Then
+        assertThatThrownBy(() -> SqlBudgetInterceptor.rethrowIfExceeded(request))
+                .isInstanceOf(SqlBudgetExceededException.class)
+                .hasMessageContaining("budget: 2, executed: 3");
+    }
+
+    // 이미 열린 카운터(필터)가 있으면 핸들러 실행 전까지의 문장은 예산에 넣지 않는다
+    @DisplayName("요청 앞단에서 실행된 SQL 은, 핸들러 예산에서 제외한다")
+    @Test
+    void givenStatementsBeforeHandler_whenHandling_thenCountsOnlyHandlerStatements() throws Exception {
+        // Given
+        SqlBudgetInterceptor sut = new SqlBudgetInterceptor(new SqlBudgetProperties(true, SqlBudgetProperties.Mode.FAIL));
+        HandlerMethod handler = new HandlerMethod(new Handlers(), "budgetOfTwo");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        SqlStatementCounter.start();
+        executeStatements(5);
+
+        // When
+        handle(sut, request, handler, 2);
+
+        // Then
+        assertThatNoException().isThrownBy(() -> SqlBudgetInterceptor.rethrowIfExceeded(request));
+    }
+
+    private static void handle(SqlBudgetInterceptor interceptor, MockHttpServletRequest request, HandlerMethod handler, int statements) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, handler);
+        executeStatements(statements);
+        interceptor.postHandle(request, response, handler, null);
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+
+    private static void executeStatements(int count) {
+        for (int i = 0; i < count; i++) {
+            SqlStatementCounter.statementExecuted();
+        }
+    }
+
+    static class Handlers {
+        @SqlBudget(2)
+        public void budgetOfTwo() {}
+    }
+}
@@ -0,0 +1,130 @@
+package com.fastcampus.fastcampusprojectboard.outbox;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
+import com.fastcampus.fastcampusprojectboard.domain.constant.ChangeType;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("변경 이벤트 릴레이")
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private OutboxRelay sut;
+    private RecordingListener listener;
+
+    @Mock private OutboxJdbcRepository outboxJdbcRepository;
+    @Mock private ObjectProvider<ChangeEventListener> listeners;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        listener = new RecordingListener();
+        sut = new OutboxRelay(
+                outboxJdbcRepository,
+                new OutboxProperties(true, "node-1", 2, Duration.ofDays(7)),
+                listeners,
+                new TransactionTemplate(transactionManager)
+        );
+    }
+
+    @DisplayName("순번을 매긴 이벤트를 소비자에게 넘기고, 마지막 순번으로 노드별 위치를 옮긴다.")
+    @Test
+    void givenSequencedEvents_whenRelaying_thenDeliversEventsAndSavesOffset() {
+        // Given
+        String consumerName = "recording@node-1";
+        given(listeners.orderedStream()).willAnswer(invocation -> Stream.of(listener));
+        given(outboxJdbcRepository.assignSequence(2)).willReturn(1);
+        given(outboxJdbcRepository.lockOffset(consumerName)).willReturn(0L, 2L, 3L);
+        given(outboxJdbcRepository.findEventsAfter(0L, 2)).willReturn(List.of(event(1), event(2)));
+        given(outboxJdbcRepository.findEventsAfter(2L, 2)).willReturn(List.of(event(3)));
+
+        // When
+        sut.relay();
+
+        // Then
+        assertThat(listener.received).extracting(ChangeEvent::seq).containsExactly(1L, 2L, 3L);
+        then(outboxJdbcRepository).should().createOffsetIfAbsent(OutboxJdbcRepository.SEQUENCER);
+        then(outboxJdbcRepository).should().createOffsetIfAbsent(consumerName);
+        then(outboxJdbcRepository).should().saveOffset(consumerName, 2L);
+        then(outboxJdbcRepository).should().saveOffset(consumerName, 3L);
+    }
+
+    @DisplayName("소비자가 실패하면, 위치를 옮기지 않아 다음 주기에 같은 이벤트를 다시 넘긴다.")
+    @Test
+    void givenFailingListener_whenRelaying_thenKeepsOffset() {
+        // Given
+        listener.failing = true;
+        given(listeners.orderedStream()).willAnswer(invocation -> Stream.of(listener));
+        given(outboxJdbcRepository.assignSequence(2)).willReturn(0);
+        given(outboxJdbcRepository.lockOffset("recording@node-1")).willReturn(0L);
+        given(outboxJdbcRepository.findEventsAfter(0L, 2)).willReturn(List.of(event(1)));
+
+        // When
+        sut.relay();
+        listener.failing = false;
+        sut.relay();
+
+        // Then
+        assertThat(listener.received).extracting(ChangeEvent::seq).containsExactly(1L);
+        then(outboxJdbcRepository).should().saveOffset("recording@node-1", 1L);
+        then(transactionManager).should(atLeastOnce()).rollback(any());
+    }
+
+    @DisplayName("순번 매기기에 실패하면, 이번 주기에는 소비자에게 넘기지 않는다.")
+    @Test
+    void givenSequencingFailure_whenRelaying_thenSkipsDelivery() {
+        // Given
+        given(outboxJdbcRepository.assignSequence(anyInt())).willThrow(new IllegalStateException("lock timeout"));
+
+        // When
+        sut.relay();
+
+        // Then
+        assertThat(listener.received).isEmpty();
+        then(outboxJdbcRepository).should(never()).findEventsAfter(anyLong(), anyInt());
+        then(outboxJdbcRepository).should(never()).saveOffset(anyString(), anyLong());
+    }
+
+    private static ChangeEvent event(long seq) {
+        return new ChangeEvent(seq, AggregateType.ARTICLE, seq, ChangeType.UPDATED, LocalDateTime.now());
+    }
+
+    private static class RecordingListener implements ChangeEventListener {
+
+        private final List<ChangeEvent> received = new ArrayList<>();
+        private boolean failing;
+
+        @Override
+        public String name() {
+            return "recording";
+        }
+
+        @Override
+        public void onEvents(List<ChangeEvent> events) {
+            if (failing) {
+                throw new IllegalStateException("consumer down");
+            }
+            received.addAll(events);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.fastcampus.fastcampusprojectboard.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("요청 한도 - 인터셉터")
+class RateLimitInterceptorTest {
+
+    private static final RateLimitProperties PROPERTIES = new RateLimitProperties(true, 100, 16, Map.of(
+            "article-write", new RateLimitProperties.Policy(
+                    new RateLimitProperties.Limit(2, Duration.ofMinutes(1)),
+                    new RateLimitProperties.Limit(1, Duration.ofMinutes(1))
+            )
+    ));
+
+    @DisplayName("IP 한도에 막히면, 사용자 한도에서 쓴 토큰을 돌려준다.")
+    @Test
+    void givenExhaustedIpBucket_whenHandling_thenRefundsUserToken() throws Exception {
+        // Given
+        RateLimitInterceptor sut = new RateLimitInterceptor(PROPERTIES, new RateLimiter(PROPERTIES));
+        HandlerMethod handler = new HandlerMethod(new Handlers(), "writeArticle");
+        sut.preHandle(request("10.0.0.1"), new MockHttpServletResponse(), handler);
+
+        // When
+        MockHttpServletResponse blockedByIp = new MockHttpServletResponse();
+        boolean sameIp = sut.preHandle(request("10.0.0.1"), blockedByIp, handler);
+        boolean otherIp = sut.preHandle(request("10.0.0.2"), new MockHttpServletResponse(), handler);
+
+        // Then
+        assertThat(sameIp).isFalse();
+        assertThat(blockedByIp.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(otherIp).isTrue();
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/articles/form");
+        request.setRemoteAddr(remoteAddr);
+        request.setUserPrincipal(() -> "haco");
+        return request;
+    }
+
+    static class Handlers {
+        @RateLimited("article-write")
+        public void writeArticle() {}
+    }
+}
@@ -0,0 +1,142 @@
+package com.fastcampus.fastcampusprojectboard.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("요청 한도 - 토큰 버킷")
+class RateLimiterTest {
+
+    private static final RateLimitProperties.Limit THREE_PER_MINUTE = new RateLimitProperties.Limit(3, Duration.ofMinutes(1));
+
+    private final AtomicLong nanoTime = new AtomicLong(1_000L);
+
+    @DisplayName("한도만큼 쓰면, 다음 요청은 토큰 하나가 다시 찰 때까지 기다리게 한다.")
+    @Test
+    void givenExhaustedBucket_whenAcquiring_thenReturnsTimeUntilNextToken() {
+        // Given
+        RateLimiter sut = new RateLimiter(properties(16, 100), nanoTime::get);
+        for (int i = 0; i < 3; i++) {
+            assertThat(sut.tryAcquire("article-write:user:haco", THREE_PER_MINUTE)).isZero();
+        }
+
+        // When
+        Duration rejected = sut.tryAcquire("article-write:user:haco", THREE_PER_MINUTE);
+        Duration otherKey = sut.tryAcquire("article-write:user:other", THREE_PER_MINUTE);
+        advance(Duration.ofSeconds(20));
+        Duration afterRefill = sut.tryAcquire("article-write:user:haco", THREE_PER_MINUTE);
+
+        // Then
+        assertThat(rejected).isEqualTo(Duration.ofSeconds(20));
+        assertThat(otherKey).isZero();
+        assertThat(afterRefill).isZero();
+    }
+
+    @DisplayName("쓴 토큰을 돌려주면, 기다리지 않고 다시 쓸 수 있다.")
+    @Test
+    void givenReleasedToken_whenAcquiring_thenAllowsWithoutWaiting() {
+        // Given
+        RateLimiter sut = new RateLimiter(properties(16, 100), nanoTime::get);
+        for (int i = 0; i < 3; i++) {
+            sut.tryAcquire("article-write:user:haco", THREE_PER_MINUTE);
+        }
+
+        // When
+        sut.release("article-write:user:haco");
+        Duration afterRelease = sut.tryAcquire("article-write:user:haco", THREE_PER_MINUTE);
+        Duration next = sut.tryAcquire("article-write:user:haco", THREE_PER_MINUTE);
+
+        // Then
+        assertThat(afterRelease).isZero();
+        assertThat(next).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @DisplayName("버킷 표가 가득 차면, 다 차오른 버킷이 생길 때까지 새 키를 거절한다.")
+    @Test
+    void givenFullTable_whenAcquiringWithNewKey_thenRejectsUntilIdleBucketsAreEvicted() {
+        // Given
+        RateLimiter sut = new RateLimiter(properties(1, 2), nanoTime::get);
+        sut.tryAcquire("a", THREE_PER_MINUTE);
+        sut.tryAcquire("b", THREE_PER_MINUTE);
+
+        // When
+        Duration whileBusy = sut.tryAcquire("c", THREE_PER_MINUTE);
+        advance(Duration.ofMinutes(1));
+        Duration afterIdle = sut.tryAcquire("c", THREE_PER_MINUTE);
+
+        // Then
+        assertThat(whileBusy).isPositive();
+        assertThat(afterIdle).isZero();
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("다 차오른 버킷을 치우면, 표가 비고 한도는 그대로다.")
+    @Test
+    void givenIdleBuckets_whenEvicting_thenRemovesOnlyFullBuckets() {
+        // Given
+        RateLimiter sut = new RateLimiter(properties(16, 100), nanoTime::get);
+        sut.tryAcquire("idle", THREE_PER_MINUTE);
+        advance(Duration.ofMinutes(1));
+        sut.tryAcquire("busy", THREE_PER_MINUTE);
+
+        // When
+        sut.evictIdleBuckets();
+
+        // Then
+        assertThat(sut.size()).isEqualTo(1);
+    }
+
+    @DisplayName("여러 스레드가 한 키로 몰려도, 한도보다 많이 통과시키지 않는다.")
+    @Test
+    void givenConcurrentRequests_whenAcquiringSameKey_thenAllowsExactlyCapacity() throws InterruptedException {
+        // Given
+        RateLimiter sut = new RateLimiter(properties(16, 100), nanoTime::get);
+        RateLimitProperties.Limit limit = new RateLimitProperties.Limit(100, Duration.ofMinutes(1));
+        int threads = 8;
+        int requestsPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger allowed = new AtomicInteger();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            executor.execute(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int j = 0; j < requestsPerThread; j++) {
+                    if (sut.tryAcquire("comment-write:ip:127.0.0.1", limit).isZero()) {
+                        allowed.incrementAndGet();
+                    }
+                }
+            });
+        }
+        start.countDown();
+        executor.shutdown();
+
+        // Then
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(allowed).hasValue(100);
+    }
+
+    private void advance(Duration duration) {
+        nanoTime.addAndGet(duration.toNanos());
+    }
+
+    private static RateLimitProperties properties(int stripes, int maxKeys) {
+        return new RateLimitProperties(true, maxKeys, stripes, Map.of());
+    }
+}
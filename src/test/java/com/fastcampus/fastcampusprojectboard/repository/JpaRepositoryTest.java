@@ -4,6 +4,8 @@ import com.fastcampus.fastcampusprojectboard.domain.Article;
 import com.fastcampus.fastcampusprojectboard.domain.ArticleComment;
 import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
 import com.fastcampus.fastcampusprojectboard.domain.UserAccount;
+import com.fastcampus.fastcampusprojectboard.dto.ArticleDto;
+import com.fastcampus.fastcampusprojectboard.metrics.SqlStatementCounter;
 import org.assertj.core.api.InstanceOfAssertFactories;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -189,6 +191,48 @@ class JpaRepositoryTest {
         assertThat(articlePage.getTotalElements()).isEqualTo(17);
         assertThat(articlePage.getTotalPages()).isEqualTo(4);
     }
+    @DisplayName("[Querydsl] 검색한 hashtag 가 여럿 붙은 게시글은, 한 번만 세고 한 번만 조회한다")
+    @Test
+    void givenArticleHavingTwoSearchedHashtags_whenQueryingArticles_thenReturnsArticleOnce() {
+        // Given
+        List<String> hashtagNames = List.of("blue", "crimson");
+        Pageable pageable = PageRequest.of(0, 200, Sort.by(Sort.Order.asc("title")));
+        long previousCount = articleRepository.findByHashtagNames(hashtagNames, pageable).getTotalElements();
+        Article article = Article.of(userAccountRepository.findById("uno").orElseThrow(), "two hashtags", "#blue #crimson");
+        article.addHashtags(Set.of(
+                hashtagRepository.findByHashtagName("blue").orElseThrow(),
+                hashtagRepository.findByHashtagName("crimson").orElseThrow()
+        ));
+        articleRepository.saveAndFlush(article);
+        // When
+        Page<Article> articlePage = articleRepository.findByHashtagNames(hashtagNames, pageable);
+        // Then
+        assertThat(articlePage.getTotalElements()).isEqualTo(previousCount + 1);
+        assertThat(articlePage.getContent())
+                .hasSize((int) articlePage.getTotalElements())
+                .doesNotHaveDuplicates()
+                .filteredOn(found -> found.getTitle().equals("two hashtags"))
+                .hasSize(1);
+    }
+    @DisplayName("[SQL 예산] 게시글 페이지를 DTO 로 변환해도, 작성자와 해시태그는 배치로 한 번씩만 조회한다")
+    @Test
+    void givenArticlePage_whenMappingToDto_thenStaysWithinSqlBudget() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        SqlStatementCounter counter = SqlStatementCounter.start();
+
+        // When
+        try {
+            articleRepository.findAll(pageable).map(ArticleDto::from).getContent();
+        } finally {
+            SqlStatementCounter.clear();
+        }
+
+        // Then
+        assertThat(counter.statements())
+                .as("목록 + count + 작성자 배치 + 해시태그 배치 (N+1 이 생기면 초과)")
+                .isLessThanOrEqualTo(4);
+    }
     @EnableJpaAuditing
     @TestConfiguration
     static class TestJpaConfig {
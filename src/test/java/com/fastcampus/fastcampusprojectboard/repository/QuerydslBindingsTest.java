@@ -0,0 +1,86 @@
+package com.fastcampus.fastcampusprojectboard.repository;
+
+import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.fastcampus.fastcampusprojectboard.domain.ArticleComment;
+import com.fastcampus.fastcampusprojectboard.domain.QArticle;
+import com.fastcampus.fastcampusprojectboard.domain.QArticleComment;
+import com.querydsl.core.types.Predicate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.querydsl.SimpleEntityPathResolver;
+import org.springframework.data.querydsl.binding.QuerydslBindings;
+import org.springframework.data.querydsl.binding.QuerydslPredicateBuilder;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+
+// /api 검색 파라미터가 어떤 조건으로 바뀌는지 확인한다. 인덱스가 있는 컬럼은 대소문자를 구분하는 앞부분 일치다
+@DisplayName("Querydsl 웹 바인딩")
+class QuerydslBindingsTest {
+
+    private final QuerydslPredicateBuilder predicateBuilder =
+            new QuerydslPredicateBuilder(DefaultConversionService.getSharedInstance(), SimpleEntityPathResolver.INSTANCE);
+
+    @DisplayName("게시글 제목, 작성자로 검색하면, 대소문자를 구분하는 앞부분 일치로 찾는다")
+    @Test
+    void givenIndexedArticleParameters_whenBinding_thenUsesCaseSensitivePrefixMatch() {
+        // Given
+        QArticle article = QArticle.article;
+
+        // When
+        Predicate title = articlePredicate("title", "Spring");
+        Predicate createdBy = articlePredicate("createdBy", "uno");
+
+        // Then
+        assertThat(title).isEqualTo(article.title.startsWith("Spring"));
+        assertThat(createdBy).isEqualTo(article.createdBy.startsWith("uno"));
+    }
+
+    @DisplayName("게시글 본문으로 검색하면, 대소문자 구분 없이 부분 일치로 찾는다")
+    @Test
+    void givenArticleContentParameter_whenBinding_thenUsesCaseInsensitiveContains() {
+        // Given
+        QArticle article = QArticle.article;
+
+        // When
+        Predicate content = articlePredicate("content", "Spring");
+
+        // Then
+        assertThat(content).isEqualTo(article.content.containsIgnoreCase("Spring"));
+    }
+
+    @DisplayName("댓글 본문, 작성자로 검색하면, 대소문자를 구분하는 앞부분 일치로 찾는다")
+    @Test
+    void givenIndexedArticleCommentParameters_whenBinding_thenUsesCaseSensitivePrefixMatch() {
+        // Given
+        QArticleComment articleComment = QArticleComment.articleComment;
+        QuerydslBindings bindings = new QuerydslBindings();
+        mock(ArticleCommentRepository.class, CALLS_REAL_METHODS).customize(bindings, articleComment);
+
+        // When
+        Predicate content = predicateBuilder.getPredicate(TypeInformation.of(ArticleComment.class), parameter("content", "Good"), bindings);
+        Predicate createdBy = predicateBuilder.getPredicate(TypeInformation.of(ArticleComment.class), parameter("createdBy", "uno"), bindings);
+
+        // Then
+        assertThat(content).isEqualTo(articleComment.content.startsWith("Good"));
+        assertThat(createdBy).isEqualTo(articleComment.createdBy.startsWith("uno"));
+    }
+
+    private Predicate articlePredicate(String name, String value) {
+        QuerydslBindings bindings = new QuerydslBindings();
+        mock(ArticleRepository.class, CALLS_REAL_METHODS).customize(bindings, QArticle.article);
+
+        return predicateBuilder.getPredicate(TypeInformation.of(Article.class), parameter(name, value), bindings);
+    }
+
+    private static MultiValueMap<String, Object> parameter(String name, String value) {
+        MultiValueMap<String, Object> parameters = new LinkedMultiValueMap<>();
+        parameters.add(name, value);
+        return parameters;
+    }
+}
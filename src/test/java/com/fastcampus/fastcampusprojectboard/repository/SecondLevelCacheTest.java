@@ -0,0 +1,136 @@
+package com.fastcampus.fastcampusprojectboard.repository;
+
+import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.fastcampus.fastcampusprojectboard.domain.UserAccount;
+import com.fastcampus.fastcampusprojectboard.dto.UserAccountDto;
+import com.fastcampus.fastcampusprojectboard.metrics.SqlStatementCounter;
+import com.fastcampus.fastcampusprojectboard.service.UserAccountService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 2차 캐시가 실제로 SQL 을 줄이는지, 영속성 컨텍스트를 비운 뒤 같은 조회를 다시 해서 실행된 JDBC 문장 수로 확인한다.
+ * 캐시는 테스트끼리 공유되므로 항상 한 번 읽어서 채운 뒤 두 번째 조회만 센다.
+ */
+@DisplayName("JPA 2차 캐시 테스트")
+@Import({SecondLevelCacheTest.TestJpaConfig.class, UserAccountService.class})
+@DataJpaTest
+class SecondLevelCacheTest {
+
+    private final ArticleRepository articleRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final HashtagRepository hashtagRepository;
+    private final UserAccountService userAccountService;
+    private final EntityManager entityManager;
+
+    SecondLevelCacheTest(
+            @Autowired ArticleRepository articleRepository,
+            @Autowired UserAccountRepository userAccountRepository,
+            @Autowired HashtagRepository hashtagRepository,
+            @Autowired UserAccountService userAccountService,
+            @Autowired EntityManager entityManager
+    ) {
+        this.articleRepository = articleRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.hashtagRepository = hashtagRepository;
+        this.userAccountService = userAccountService;
+        this.entityManager = entityManager;
+    }
+
+    @AfterEach
+    void tearDown() {
+        SqlStatementCounter.clear();
+    }
+
+    @DisplayName("캐시된 유저 계정은, 다시 조회해도 SQL 을 실행하지 않는다")
+    @Test
+    void givenCachedUserAccount_whenFindingAgain_thenExecutesNoStatement() {
+        // Given
+        userAccountRepository.findById("uno").orElseThrow();
+        entityManager.clear();
+        SqlStatementCounter counter = SqlStatementCounter.start();
+
+        // When
+        UserAccount userAccount = userAccountRepository.findById("uno").orElseThrow();
+
+        // Then
+        assertThat(userAccount.getUserId()).isEqualTo("uno");
+        assertThat(counter.statements()).isZero();
+    }
+
+    @DisplayName("캐시된 유저 계정을 저장하면, 다음 로그인 조회는 캐시가 아닌 바뀐 계정을 읽는다")
+    @Test
+    void givenCachedUserAccount_whenSavingUser_thenSearchesSavedUser() {
+        // Given
+        UserAccountDto cached = userAccountService.searchUser("uno").orElseThrow();
+        entityManager.clear();
+
+        // When
+        userAccountService.saveUser("uno", cached.userPassword(), cached.email(), "new-nickname", cached.memo());
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter counter = SqlStatementCounter.start();
+        UserAccountDto searched = userAccountService.searchUser("uno").orElseThrow();
+
+        // Then
+        assertThat(searched.nickname()).isEqualTo("new-nickname");
+        assertThat(counter.statements()).isEqualTo(1);
+    }
+
+    @DisplayName("게시글의 해시태그 컬렉션은, 다시 조회할 때 게시글 한 건만 SQL 로 읽는다")
+    @Test
+    void givenCachedArticleHashtags_whenLoadingArticleAgain_thenLoadsOnlyArticleRow() {
+        // Given
+        Article cached = articleRepository.findById(1L).orElseThrow();
+        int hashtagCount = cached.getHashtags().size();
+        entityManager.clear();
+        SqlStatementCounter counter = SqlStatementCounter.start();
+
+        // When
+        Article article = articleRepository.findById(1L).orElseThrow();
+        int reloadedHashtagCount = article.getHashtags().size();
+
+        // Then
+        assertThat(reloadedHashtagCount).isEqualTo(hashtagCount);
+        assertThat(counter.statements()).isEqualTo(1);
+    }
+
+    @DisplayName("해시태그 이름 목록은, 쿼리 캐시에서 읽어서 SQL 을 실행하지 않는다")
+    @Test
+    void givenCachedHashtagNames_whenQueryingAgain_thenExecutesNoStatement() {
+        // Given
+        List<String> cached = hashtagRepository.findAllHashtagNames();
+        entityManager.clear();
+        SqlStatementCounter counter = SqlStatementCounter.start();
+
+        // When
+        List<String> hashtagNames = hashtagRepository.findAllHashtagNames();
+
+        // Then
+        assertThat(hashtagNames).containsExactlyInAnyOrderElementsOf(cached);
+        assertThat(counter.statements()).isZero();
+    }
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    static class TestJpaConfig {
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of("uno");
+        }
+    }
+}
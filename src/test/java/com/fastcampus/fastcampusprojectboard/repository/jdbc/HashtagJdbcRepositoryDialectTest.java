@@ -0,0 +1,127 @@
+package com.fastcampus.fastcampusprojectboard.repository.jdbc;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+/**
+ * H2 로는 타지 않는 DB 별 분기(PostgreSQL 의 ON CONFLICT, MySQL 의 INSERT IGNORE)를 실제 DB 컨테이너로 확인한다.
+ * Docker 가 없는 환경에서는 건너뛴다.
+ */
+@DisplayName("JDBC - 해시태그 upsert (DB 별)")
+@Testcontainers(disabledWithoutDocker = true)
+class HashtagJdbcRepositoryDialectTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRESQL = new PostgreSQLContainer<>("postgres:15-alpine");
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    static Stream<JdbcDatabaseContainer<?>> databases() {
+        return Stream.of(POSTGRESQL, MYSQL);
+    }
+
+    @DisplayName("이미 있는 해시태그와 새 해시태그를 함께 넣으면, 새로 넣은 이름만 돌려준다")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("databases")
+    void givenExistingAndNewHashtags_whenInserting_thenReturnsOnlyInsertedNames(JdbcDatabaseContainer<?> database) {
+        // Given
+        DataSource dataSource = dataSource(database);
+        HashtagJdbcRepository sut = new HashtagJdbcRepository(dataSource, () -> Optional.of("uno"), entityManagerFactory());
+        sut.insertHashtagNamesIfAbsent(List.of("existing"));
+
+        // When
+        Set<String> inserted = new TransactionTemplate(new DataSourceTransactionManager(dataSource))
+                .execute(status -> sut.insertHashtagNamesIfAbsent(List.of("existing", "new_1", "new_2")));
+
+        // Then
+        assertThat(inserted).containsExactlyInAnyOrder("new_1", "new_2");
+        assertThat(sut.findIdsByHashtagNames(List.of("existing", "new_1", "new_2"))).hasSize(3);
+    }
+
+    @DisplayName("같은 새 해시태그를 두 트랜잭션이 함께 넣으면, 먼저 넣은 쪽만 넣었다고 돌려준다")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("databases")
+    void givenConcurrentInsertOfSameHashtag_whenInserting_thenOnlyFirstReportsInserted(JdbcDatabaseContainer<?> database) throws Exception {
+        // Given
+        DataSource dataSource = dataSource(database);
+        HashtagJdbcRepository sut = new HashtagJdbcRepository(dataSource, () -> Optional.of("uno"), entityManagerFactory());
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        CountDownLatch firstInserted = new CountDownLatch(1);
+        CountDownLatch commitGate = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // When
+        Future<Set<String>> first = executor.submit(() -> transactionTemplate.execute(status -> {
+            Set<String> inserted = sut.insertHashtagNamesIfAbsent(List.of("race"));
+            firstInserted.countDown();
+            await(commitGate);
+            return inserted;
+        }));
+        Future<Set<String>> second = executor.submit(() -> {
+            await(firstInserted);
+            // 먼저 넣은 트랜잭션이 커밋할 때까지 insert 에서 기다린다
+            return transactionTemplate.execute(status -> sut.insertHashtagNamesIfAbsent(List.of("race", "race_other")));
+        });
+        commitGate.countDown();
+
+        // Then
+        assertThat(first.get(30, TimeUnit.SECONDS)).containsExactly("race");
+        assertThat(second.get(30, TimeUnit.SECONDS)).containsExactly("race_other");
+        executor.shutdown();
+    }
+
+    private static DataSource dataSource(JdbcDatabaseContainer<?> database) {
+        DataSource dataSource = new DriverManagerDataSource(database.getJdbcUrl(), database.getUsername(), database.getPassword());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute(database == MYSQL
+                ? "CREATE TABLE IF NOT EXISTS hashtag (id BIGINT AUTO_INCREMENT PRIMARY KEY, hashtag_name VARCHAR(50) NOT NULL UNIQUE, " +
+                        "created_at DATETIME(6) NOT NULL, created_by VARCHAR(100) NOT NULL, modified_at DATETIME(6) NOT NULL, modified_by VARCHAR(100) NOT NULL)"
+                : "CREATE TABLE IF NOT EXISTS hashtag (id BIGSERIAL PRIMARY KEY, hashtag_name VARCHAR(50) NOT NULL UNIQUE, " +
+                        "created_at TIMESTAMP NOT NULL, created_by VARCHAR(100) NOT NULL, modified_at TIMESTAMP NOT NULL, modified_by VARCHAR(100) NOT NULL)");
+        jdbcTemplate.update("DELETE FROM hashtag");
+        return dataSource;
+    }
+
+    // 커밋 후 해시태그 이름 쿼리 캐시를 비우는 호출만 받아 준다
+    private static EntityManagerFactory entityManagerFactory() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        given(entityManagerFactory.unwrap(SessionFactory.class)).willReturn(mock(SessionFactory.class, RETURNS_DEEP_STUBS));
+        return entityManagerFactory;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.fastcampus.fastcampusprojectboard.security;
+
+import com.fastcampus.fastcampusprojectboard.dto.security.BoardPrincipal;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("보안 - 서명 토큰")
+class BoardTokenServiceTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final String KEY_1 = "test-signing-key-1-0123456789abcdef";
+    private static final String KEY_2 = "test-signing-key-2-0123456789abcdef";
+
+    @DisplayName("발급한 토큰을 검증하면, 인증 주체 정보를 복원한다.")
+    @Test
+    void givenIssuedToken_whenVerifying_thenReturnsPrincipal() {
+        // Given
+        BoardTokenService sut = createService("k1", Map.of("k1", KEY_1), NOW);
+        String token = sut.issue(BoardPrincipal.of("uno", "pw", "uno@mail.com", "Uno", "memo"));
+
+        // When
+        Optional<BoardPrincipal> principal = sut.verify(token);
+
+        // Then
+        assertThat(principal).get()
+                .hasFieldOrPropertyWithValue("username", "uno")
+                .hasFieldOrPropertyWithValue("password", null)
+                .hasFieldOrPropertyWithValue("email", "uno@mail.com")
+                .hasFieldOrPropertyWithValue("nickname", "Uno");
+    }
+
+    @DisplayName("변조된 토큰을 검증하면, 빈 결과를 반환한다.")
+    @Test
+    void givenTamperedToken_whenVerifying_thenReturnsEmpty() {
+        // Given
+        BoardTokenService sut = createService("k1", Map.of("k1", KEY_1), NOW);
+        String token = sut.issue(BoardPrincipal.of("uno", null, null, null, null));
+        String[] parts = token.split("\\.");
+        String tampered = parts[0] + "." + (Long.parseLong(parts[1]) + 3600) + "." + parts[2] + "." + parts[3];
+
+        // When & Then
+        assertThat(sut.verify(tampered)).isEmpty();
+        assertThat(sut.verify("not-a-token")).isEmpty();
+    }
+
+    @DisplayName("만료된 토큰을 검증하면, 빈 결과를 반환한다.")
+    @Test
+    void givenExpiredToken_whenVerifying_thenReturnsEmpty() {
+        // Given
+        String token = createService("k1", Map.of("k1", KEY_1), NOW)
+                .issue(BoardPrincipal.of("uno", null, null, null, null));
+        BoardTokenService later = createService("k1", Map.of("k1", KEY_1), NOW.plus(Duration.ofHours(9)));
+
+        // When & Then
+        assertThat(later.verify(token)).isEmpty();
+    }
+
+    @DisplayName("서명 키를 교체해도, 이전 키가 남아 있으면 기존 토큰을 검증한다.")
+    @Test
+    void givenRotatedKey_whenVerifyingTokenSignedWithPreviousKey_thenReturnsPrincipal() {
+        // Given
+        String token = createService("k1", Map.of("k1", KEY_1), NOW)
+                .issue(BoardPrincipal.of("uno", null, null, null, null));
+        BoardTokenService rotated = createService("k2", Map.of("k1", KEY_1, "k2", KEY_2), NOW);
+        BoardTokenService retired = createService("k2", Map.of("k2", KEY_2), NOW);
+
+        // When & Then
+        assertThat(rotated.verify(token)).isPresent();
+        assertThat(rotated.issue(BoardPrincipal.of("uno", null, null, null, null))).startsWith("k2.");
+        assertThat(retired.verify(token)).isEmpty();
+    }
+
+    @DisplayName("다른 용도로 봉인한 토큰을 로그인 토큰으로 검증하면, 빈 결과를 반환한다.")
+    @Test
+    void givenTokenSealedForOtherPurpose_whenVerifying_thenReturnsEmpty() {
+        // Given
+        BoardTokenService sut = createService("k1", Map.of("k1", KEY_1), NOW);
+        String token = sut.seal(BoardTokenService.Purpose.OAUTH2_AUTHORIZATION_REQUEST, "not-a-principal".getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(3));
+
+        // When & Then
+        assertThat(sut.verify(token)).isEmpty();
+        assertThat(sut.unseal(BoardTokenService.Purpose.OAUTH2_AUTHORIZATION_REQUEST, token)).isPresent();
+    }
+
+    @DisplayName("필드 수가 맞지 않는 로그인 토큰을 검증하면, 예외 없이 빈 결과를 반환한다.")
+    @Test
+    void givenLoginTokenWithWrongFieldCount_whenVerifying_thenReturnsEmpty() {
+        // Given
+        BoardTokenService sut = createService("k1", Map.of("k1", KEY_1), NOW);
+        String token = sut.seal(BoardTokenService.Purpose.LOGIN, "uno".getBytes(StandardCharsets.UTF_8), Duration.ofMinutes(3));
+
+        // When & Then
+        assertThat(sut.verify(token)).isEmpty();
+    }
+
+    @DisplayName("토큰 모드에서 서명 키가 없거나, 예전 기본 키이거나, 32 바이트보다 짧으면, 서비스를 만들 수 없다.")
+    @Test
+    void givenMissingDefaultOrShortKey_whenCreatingService_thenThrowsException() {
+        // When & Then
+        assertThatIllegalStateException()
+                .isThrownBy(() -> createService("k1", Map.of("k1", ""), NOW))
+                .withMessageContaining("activeKeyId: k1");
+        assertThatIllegalStateException()
+                .isThrownBy(() -> createService("k1", Map.of("k1", "local-development-only-signing-key-change-me"), NOW))
+                .withMessageContaining("keyId: k1");
+        assertThatIllegalStateException()
+                .isThrownBy(() -> createService("k2", Map.of("k1", "short-key", "k2", KEY_2), NOW))
+                .withMessageContaining("32 바이트");
+    }
+
+    private BoardTokenService createService(String activeKeyId, Map<String, String> keys, Instant now) {
+        return new BoardTokenService(
+                new BoardTokenProperties(true, "BOARD_TOKEN", Duration.ofHours(8), activeKeyId, keys),
+                Clock.fixed(now, ZoneOffset.UTC)
+        );
+    }
+}
@@ -0,0 +1,87 @@
+package com.fastcampus.fastcampusprojectboard.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("보안 - 비밀번호 해시 전용 풀")
+class BoundedPasswordEncoderTest {
+
+    @DisplayName("비밀번호를 확인하면, 전용 풀에서 실행하고 해시 시간을 기록한다.")
+    @Test
+    void givenPassword_whenMatching_thenDelegatesAndRecordsLatency() {
+        // Given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (BoundedPasswordEncoder sut = new BoundedPasswordEncoder(
+                new PlainPasswordEncoder(null), new PasswordHashingProperties(1, 1, Duration.ofSeconds(1)), meterRegistry)) {
+
+            // When
+            boolean matches = sut.matches("pw", sut.encode("pw"));
+
+            // Then
+            assertThat(matches).isTrue();
+            assertThat(meterRegistry.get("board.password.hashing").tag("operation", "matches").timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get("board.password.hashing.queue.wait").timer().count()).isEqualTo(2);
+        }
+    }
+
+    @DisplayName("풀과 대기열이 가득 차면, 기다리지 않고 바로 거절한다.")
+    @Test
+    void givenSaturatedPool_whenMatching_thenRejectsImmediately() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (BoundedPasswordEncoder sut = new BoundedPasswordEncoder(
+                new PlainPasswordEncoder(release), new PasswordHashingProperties(1, 1, Duration.ofSeconds(5)), meterRegistry)) {
+            CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> sut.matches("pw", "pw"));
+            CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> sut.matches("pw", "pw"));
+            await(() -> meterRegistry.get("board.password.hashing.queue.size").gauge().value() == 1);
+
+            // When
+            Throwable t = catchThrowable(() -> sut.matches("pw", "pw"));
+
+            // Then
+            assertThat(t).isInstanceOf(PasswordHashingRejectedException.class);
+            assertThat(meterRegistry.get("board.password.hashing.rejected").counter().count()).isEqualTo(1);
+            release.countDown();
+            assertThat(running.get(1, TimeUnit.SECONDS)).isTrue();
+            assertThat(queued.get(1, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private record PlainPasswordEncoder(CountDownLatch release) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            if (release != null) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
+import com.fastcampus.fastcampusprojectboard.domain.constant.ChangeType;
+import com.fastcampus.fastcampusprojectboard.outbox.ChangeEvent;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.ArticleArchiveJdbcRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 게시글 보관")
+@ExtendWith(MockitoExtension.class)
+class ArticleArchiveServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+
+    private ArticleArchiveService sut;
+
+    @Mock private ArticleArchiveJdbcRepository articleArchiveJdbcRepository;
+    @Mock private OutboxJdbcRepository outboxJdbcRepository;
+    @Mock private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        sut = createService(true);
+    }
+
+    @DisplayName("오래된 게시글이 배치 크기보다 많으면, 배치마다 옮기고 보관 이벤트를 남긴다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void givenOldArticles_whenArchiving_thenMovesArticlesBatchByBatch() {
+        // Given
+        LocalDateTime createdBefore = LocalDateTime.now().minusDays(365);
+        given(articleArchiveJdbcRepository.lockArticleIdsCreatedBefore(createdBefore, BATCH_SIZE))
+                .willReturn(List.of(1L, 2L), List.of(3L));
+
+        // When
+        long archived = sut.archiveArticlesCreatedBefore(createdBefore);
+
+        // Then
+        assertThat(archived).isEqualTo(3);
+        then(articleArchiveJdbcRepository).should().moveArticles(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        then(articleArchiveJdbcRepository).should().moveArticles(eq(List.of(3L)), any(LocalDateTime.class));
+        then(transactionManager).should(times(2)).commit(any());
+
+        ArgumentCaptor<Collection<ChangeEvent>> events = ArgumentCaptor.forClass(Collection.class);
+        then(outboxJdbcRepository).should(times(2)).insertEvents(events.capture());
+        assertThat(events.getAllValues().stream().flatMap(Collection::stream).toList())
+                .extracting(ChangeEvent::aggregateType, ChangeEvent::aggregateId, ChangeEvent::changeType)
+                .containsExactly(
+                        tuple(AggregateType.ARTICLE, 1L, ChangeType.ARCHIVED),
+                        tuple(AggregateType.ARTICLE, 2L, ChangeType.ARCHIVED),
+                        tuple(AggregateType.ARTICLE, 3L, ChangeType.ARCHIVED)
+                );
+    }
+
+    @DisplayName("옮길 게시글이 없으면, 아무것도 옮기지 않는다.")
+    @Test
+    void givenNoOldArticles_whenArchiving_thenMovesNothing() {
+        // Given
+        LocalDateTime createdBefore = LocalDateTime.now().minusDays(365);
+        given(articleArchiveJdbcRepository.lockArticleIdsCreatedBefore(createdBefore, BATCH_SIZE)).willReturn(List.of());
+
+        // When
+        long archived = sut.archiveArticlesCreatedBefore(createdBefore);
+
+        // Then
+        assertThat(archived).isZero();
+        then(articleArchiveJdbcRepository).should(never()).moveArticles(any(), any());
+        then(outboxJdbcRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("보관 기능이 꺼져 있으면, 예약 작업이 게시글을 옮기지 않는다.")
+    @Test
+    void givenArchiveDisabled_whenScheduledArchiveRuns_thenDoesNothing() {
+        // Given
+        sut = createService(false);
+
+        // When
+        sut.archiveExpiredArticles();
+
+        // Then
+        then(articleArchiveJdbcRepository).shouldHaveNoInteractions();
+        then(transactionManager).shouldHaveNoInteractions();
+    }
+
+    private ArticleArchiveService createService(boolean enabled) {
+        return new ArticleArchiveService(
+                articleArchiveJdbcRepository,
+                outboxJdbcRepository,
+                new ArticleArchiveProperties(enabled, Duration.ofDays(365), BATCH_SIZE),
+                new TransactionTemplate(transactionManager)
+        );
+    }
+}
@@ -0,0 +1,82 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+import com.fastcampus.fastcampusprojectboard.domain.UserAccount;
+import com.fastcampus.fastcampusprojectboard.repository.ArticleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+@DisplayName("비즈니스 로직 - 게시글 내보내기")
+@ExtendWith(MockitoExtension.class)
+class ArticleExportServiceTest {
+
+    private ArticleExportService sut;
+    @Mock private ArticleRepository articleRepository;
+    @Mock private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleExportService(articleRepository, entityManager, new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @DisplayName("게시글을 내보내면, ID 구간마다 연관 엔티티를 한 번에 읽어 한 줄에 하나씩 JSON 으로 쓰고 영속성 컨텍스트를 비운다.")
+    @Test
+    void givenArticles_whenExporting_thenWritesNdjsonChunkByChunk() throws Exception {
+        // Given
+        given(articleRepository.findIdsAfter(anyLong(), any(Pageable.class))).willAnswer(invocation -> {
+            long lastId = invocation.getArgument(0);
+            Pageable pageable = invocation.getArgument(1);
+            return LongStream.rangeClosed(lastId + 1, Math.min(lastId + pageable.getPageSize(), 1001)).boxed().toList();
+        });
+        given(articleRepository.findAllWithUserAccountAndHashtagsByIdIn(anyCollection())).willAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::createArticle).toList();
+        });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        long count = sut.exportArticles(false, out);
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(1001);
+        assertThat(lines).hasSize(1001);
+        assertThat(lines[0])
+                .contains("\"id\":1", "\"userId\":\"uno\"", "\"hashtags\":[\"java\"]")
+                .doesNotContain("comments");
+        then(articleRepository).should(times(3)).findAllWithUserAccountAndHashtagsByIdIn(anyCollection());
+        then(articleRepository).should(never()).findAllWithCommentsByIdIn(anyCollection());
+        then(entityManager).should(times(3)).clear();
+    }
+
+    private Article createArticle(long id) {
+        Article article = Article.of(UserAccount.of("uno", "pw", null, null, null), "title " + id, "content #java");
+        article.addHashtag(Hashtag.of("java"));
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+}
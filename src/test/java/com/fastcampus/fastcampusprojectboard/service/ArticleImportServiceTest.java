@@ -0,0 +1,177 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
+import com.fastcampus.fastcampusprojectboard.domain.constant.ChangeType;
+import com.fastcampus.fastcampusprojectboard.dto.request.ArticleImportRequest;
+import com.fastcampus.fastcampusprojectboard.outbox.ChangeEvent;
+import com.fastcampus.fastcampusprojectboard.repository.HashtagRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.ArticleJdbcRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.HashtagJdbcRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+@DisplayName("비즈니스 로직 - 게시글 대량 등록")
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    private ArticleImportService sut;
+    @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagJdbcRepository hashtagJdbcRepository;
+    @Mock private ArticleJdbcRepository articleJdbcRepository;
+    @Mock private OutboxJdbcRepository outboxJdbcRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Captor private ArgumentCaptor<List<ArticleImportRequest>> articles;
+    @Captor private ArgumentCaptor<List<long[]>> articleHashtags;
+    @Captor private ArgumentCaptor<List<ChangeEvent>> changeEvents;
+
+    @TempDir Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        sut = new ArticleImportService(
+                new HashtagService(hashtagRepository, hashtagJdbcRepository, outboxJdbcRepository),
+                hashtagJdbcRepository,
+                articleJdbcRepository,
+                outboxJdbcRepository,
+                transactionTemplate,
+                new ObjectMapper().registerModule(new JavaTimeModule())
+        );
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @DisplayName("CSV 파일을 등록하면, 해시태그를 한 번에 upsert 하고 게시글과 해시태그 연결을 batch 로 쓴다.")
+    @Test
+    void givenCsvFile_whenImporting_thenWritesArticlesAndHashtagsInBatch() throws Exception {
+        // Given
+        Path csv = Files.writeString(tempDir.resolve("articles.csv"), """
+                userId,title,content
+                uno,"first, title","본문 #java ""인용"""
+                unknown,second,"#spring"
+                uno,,no title
+                """);
+        given(articleJdbcRepository.findExistingUserIds(anyCollection())).willReturn(Set.of("uno"));
+        given(hashtagJdbcRepository.insertHashtagNamesIfAbsent(Set.of("java"))).willReturn(Set.of("java"));
+        given(hashtagJdbcRepository.findIdsByHashtagNames(anyCollection())).willReturn(Map.of("java", 10L));
+        given(articleJdbcRepository.insertArticles(anyList())).willReturn(List.of(100L));
+
+        // When
+        ArticleImportService.ImportResult result = sut.importArticles(csv, 1000);
+
+        // Then
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(2);
+        then(articleJdbcRepository).should().insertArticles(articles.capture());
+        assertThat(articles.getValue()).singleElement()
+                .hasFieldOrPropertyWithValue("title", "first, title")
+                .hasFieldOrPropertyWithValue("content", "본문 #java \"인용\"")
+                .hasFieldOrPropertyWithValue("createdBy", "uno");
+        then(hashtagJdbcRepository).should().insertHashtagNamesIfAbsent(Set.of("java"));
+        then(articleJdbcRepository).should().insertArticleHashtags(articleHashtags.capture());
+        assertThat(articleHashtags.getValue()).containsExactly(new long[]{100L, 10L});
+        then(outboxJdbcRepository).should().insertEvents(changeEvents.capture());
+        assertThat(changeEvents.getValue())
+                .extracting(ChangeEvent::aggregateType, ChangeEvent::aggregateId, ChangeEvent::changeType)
+                .containsExactly(
+                        tuple(AggregateType.HASHTAG, 10L, ChangeType.CREATED),
+                        tuple(AggregateType.ARTICLE, 100L, ChangeType.CREATED)
+                );
+        then(articleJdbcRepository).should().saveImportCheckpoint(eq(csv.toAbsolutePath().normalize().toString()), eq(3L), any());
+    }
+
+    @DisplayName("체크포인트가 있으면, 이미 처리한 레코드는 건너뛰고 이어서 등록한다.")
+    @Test
+    void givenCheckpoint_whenImporting_thenResumesFromCheckpoint() throws Exception {
+        // Given
+        Path ndjson = Files.writeString(tempDir.resolve("articles.ndjson"), """
+                {"userId":"uno","title":"first","content":"done already"}
+                {"userId":"uno","title":"second","content":"resumed","createdAt":"2024-01-01T00:00:00"}
+                """);
+        String source = ndjson.toAbsolutePath().normalize().toString();
+        given(articleJdbcRepository.findImportCheckpoint(source)).willReturn(1L);
+        given(articleJdbcRepository.findExistingUserIds(anyCollection())).willReturn(Set.of("uno"));
+        given(articleJdbcRepository.insertArticles(anyList())).willReturn(List.of(101L));
+
+        // When
+        ArticleImportService.ImportResult result = sut.importArticles(ndjson, 1000);
+
+        // Then
+        assertThat(result.resumedFrom()).isEqualTo(1);
+        assertThat(result.imported()).isEqualTo(1);
+        then(articleJdbcRepository).should().insertArticles(articles.capture());
+        assertThat(articles.getValue()).singleElement()
+                .hasFieldOrPropertyWithValue("title", "second");
+        then(articleJdbcRepository).should().saveImportCheckpoint(eq(source), eq(2L), any());
+    }
+
+    @DisplayName("컬럼 길이를 넘는 레코드가 있으면, 그 레코드만 건너뛰고 나머지는 등록한다.")
+    @Test
+    void givenTooLongRecord_whenImporting_thenSkipsOnlyThatRecord() throws Exception {
+        // Given
+        Path ndjson = Files.writeString(tempDir.resolve("articles.ndjson"), """
+                {"userId":"uno","title":"%s","content":"too long title"}
+                {"userId":"uno","title":"fits","content":"ok"}
+                """.formatted("t".repeat(256)));
+        given(articleJdbcRepository.findExistingUserIds(anyCollection())).willReturn(Set.of("uno"));
+        given(articleJdbcRepository.insertArticles(anyList())).willReturn(List.of(102L));
+
+        // When
+        ArticleImportService.ImportResult result = sut.importArticles(ndjson, 1000);
+
+        // Then
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(1);
+        then(articleJdbcRepository).should().insertArticles(articles.capture());
+        assertThat(articles.getValue()).singleElement()
+                .hasFieldOrPropertyWithValue("title", "fits");
+    }
+
+    @DisplayName("배치를 쓰다 실패하면, 체크포인트도 남기지 않는다.")
+    @Test
+    void givenFailingBatch_whenImporting_thenDoesNotAdvanceCheckpoint() throws Exception {
+        // Given
+        Path ndjson = Files.writeString(tempDir.resolve("articles.ndjson"), """
+                {"userId":"uno","title":"first","content":"fails"}
+                """);
+        given(articleJdbcRepository.findExistingUserIds(anyCollection())).willReturn(Set.of("uno"));
+        given(articleJdbcRepository.insertArticles(anyList())).willThrow(new IllegalStateException("DB 오류"));
+
+        // When
+        Throwable t = catchThrowable(() -> sut.importArticles(ndjson, 1000));
+
+        // Then
+        assertThat(t).isInstanceOf(IllegalStateException.class);
+        then(articleJdbcRepository).should(never()).saveImportCheckpoint(anyString(), anyLong(), any());
+    }
+}
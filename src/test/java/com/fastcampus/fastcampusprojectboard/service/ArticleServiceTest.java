@@ -1,13 +1,19 @@
 package com.fastcampus.fastcampusprojectboard.service;
 
+import com.fastcampus.fastcampusprojectboard.domain.ArchivedArticle;
 import com.fastcampus.fastcampusprojectboard.domain.Article;
+import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+import com.fastcampus.fastcampusprojectboard.domain.QArticle;
 import com.fastcampus.fastcampusprojectboard.domain.UserAccount;
 import com.fastcampus.fastcampusprojectboard.domain.constant.SearchType;
 import com.fastcampus.fastcampusprojectboard.dto.ArticleDto;
 import com.fastcampus.fastcampusprojectboard.dto.ArticleWithCommentsDto;
 import com.fastcampus.fastcampusprojectboard.dto.UserAccountDto;
+import com.fastcampus.fastcampusprojectboard.repository.ArchivedArticleRepository;
 import com.fastcampus.fastcampusprojectboard.repository.ArticleRepository;
 import com.fastcampus.fastcampusprojectboard.repository.UserAccountRepository;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Predicate;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,8 +21,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -36,6 +44,8 @@ class ArticleServiceTest {
     @InjectMocks private ArticleService sut;
     @Mock private ArticleRepository articleRepository;
     @Mock private UserAccountRepository userAccountRepository;
+    @Mock private HashtagService hashtagService;
+    @Mock private ArchivedArticleRepository archivedArticleRepository;
 
     @DisplayName("검색어 없이 게시글 검색하면, 게시글 페이지 반환")
     @Test
@@ -65,6 +75,27 @@ class ArticleServiceTest {
         then(articleRepository).should().findByTitleContaining(searchKeyword, pageable);
     }
 
+    @DisplayName("해시태그로 게시글 검색하면, 페이지 검색과 스트리밍 목록이 같은 해시태그 이름으로 찾는다")
+    @Test
+    void givenHashtagSearchParam_whenSearchingArticlesAndChunk_thenMatchesSameHashtagNames() {
+        // Given
+        String searchKeyword = "#java  spring";
+        List<String> hashtagNames = List.of("java", "spring");
+        Pageable pageable = Pageable.ofSize(20);
+        Sort sort = Sort.by("createdAt");
+        given(articleRepository.findByHashtagNames(hashtagNames, pageable)).willReturn(Page.empty());
+        given(articleRepository.findChunk(any(Predicate.class), eq(sort), eq(0L), eq(20))).willReturn(List.of());
+
+        // When
+        sut.searchArticles(SearchType.HASHTAG, searchKeyword, pageable);
+        sut.searchArticleChunk(SearchType.HASHTAG, searchKeyword, sort, 0L, 20);
+
+        // Then
+        then(articleRepository).should().findByHashtagNames(hashtagNames, pageable);
+        then(articleRepository).should().findChunk(
+                eq(new BooleanBuilder(QArticle.article.hashtags.any().hashtagName.in(hashtagNames))), eq(sort), eq(0L), eq(20));
+    }
+
     @DisplayName("검색어 없이 게시글을 해시태그 검색하면, 빈 페이지 반환")
     @Test
     void givenNoSearchParam_whenSearchingArticlesViaHashtag_thenReturnsEmptyPage() {
@@ -118,6 +149,40 @@ class ArticleServiceTest {
         assertThat(t).isInstanceOf(EntityNotFoundException.class)
                 .hasMessage("게시글이 없습니다 - articleId:" + articleId);
         then(articleRepository).should().findById(articleId);
+        then(archivedArticleRepository).should().findById(articleId);
+    }
+
+    @DisplayName("보관된 게시글 ID로 조회하면, 보관 테이블에서 찾아 보관 표시와 함께 반환")
+    @Test
+    void givenArchivedArticleId_whenSearchingArticleWithComments_thenReturnsArchivedArticle() {
+        Long articleId = 1L;
+        ArchivedArticle archivedArticle = createArchivedArticle();
+        given(articleRepository.findById(articleId)).willReturn(Optional.empty());
+        given(archivedArticleRepository.findById(articleId)).willReturn(Optional.of(archivedArticle));
+
+        ArticleWithCommentsDto dto = sut.getArticleWithComments(articleId);
+
+        assertThat(dto)
+                .hasFieldOrPropertyWithValue("id", articleId)
+                .hasFieldOrPropertyWithValue("title", archivedArticle.getTitle())
+                .hasFieldOrPropertyWithValue("archived", true);
+        then(articleRepository).should().findById(articleId);
+        then(archivedArticleRepository).should().findById(articleId);
+    }
+
+    @DisplayName("보관된 게시글을 검색하면, 보관 테이블만 찾는다")
+    @Test
+    void givenSearchParam_whenSearchingArchivedArticles_thenSearchesArchiveOnly() {
+        SearchType searchType = SearchType.TITLE;
+        String searchKeyword = "old title";
+        Pageable pageable = Pageable.ofSize(20);
+        given(archivedArticleRepository.findByTitleContaining(searchKeyword, pageable)).willReturn(Page.empty());
+
+        Page<ArticleDto> articles = sut.searchArchivedArticles(searchType, searchKeyword, pageable);
+
+        assertThat(articles).isEmpty();
+        then(archivedArticleRepository).should().findByTitleContaining(searchKeyword, pageable);
+        then(articleRepository).shouldHaveNoInteractions();
     }
 
     @DisplayName("게시글 조회하면, 게시글 반환")
@@ -153,21 +218,67 @@ class ArticleServiceTest {
     @Test
     void givenModifiedArticleInfo_whenUpdatingArticle_thenUpdatesArticle() {
         Article article = createArticle();
-        ArticleDto dto = createArticleDto("new title", "new content", "#springboot");
+        Hashtag java = createHashtag(1L, "java");
+        Hashtag spring = createHashtag(2L, "spring");
+        Hashtag springboot = createHashtag(3L, "springboot");
+        article.addHashtags(List.of(java, spring));
+        ArticleDto dto = createArticleDto("new title", "new content #java #springboot", "#springboot");
         given(articleRepository.getReferenceById(dto.id())).willReturn(article); //레퍼런스를 가져오는 것
         given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
+        given(hashtagService.parseHashtagNames(dto.content())).willReturn(Set.of("java", "springboot"));
+        given(hashtagService.resolveHashtags(Set.of("springboot"))).willReturn(Set.of(springboot));
 
         sut.updateArticle(dto.id(), dto);
 
         assertThat(article)
                 .hasFieldOrPropertyWithValue("title", dto.title())
-                .hasFieldOrPropertyWithValue("content", dto.content())
-                .hasFieldOrPropertyWithValue("hashtag", dto.hashtagDtos());
+                .hasFieldOrPropertyWithValue("content", dto.content());
+        assertThat(article.getHashtags())
+                .extracting(Hashtag::getHashtagName)
+                .containsExactlyInAnyOrder("java", "springboot");
+        assertThat(article.getHashtags()).anySatisfy(hashtag -> assertThat(hashtag).isSameAs(java)); // 그대로인 해시태그는 다시 만들지 않는다
+        then(hashtagService).should().resolveHashtags(Set.of("springboot"));
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(spring), article.getId());
         then(articleRepository).should().getReferenceById(dto.id());
         then(userAccountRepository).should().getReferenceById(dto.userAccountDto().userId());
 
     }
 
+    @DisplayName("본문에서 해시태그를 모두 지운 수정 정보를 입력하면, 게시글에서 떼어 내고 다른 글에 없는 해시태그는 지운다")
+    @Test
+    void givenContentWithoutHashtags_whenUpdatingArticle_thenDetachesAndDeletesOrphanHashtags() {
+        Article article = createArticle();
+        Hashtag java = createHashtag(1L, "java");
+        article.addHashtag(java);
+        ArticleDto dto = createArticleDto("title", "new content", null);
+        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
+        given(hashtagService.parseHashtagNames(dto.content())).willReturn(Set.of());
+
+        sut.updateArticle(dto.id(), dto);
+
+        assertThat(article.getHashtags()).isEmpty();
+        then(hashtagService).should().deleteHashtagsWithoutArticles(Set.of(java), article.getId());
+        then(hashtagService).should(never()).resolveHashtags(any());
+    }
+
+    @DisplayName("본문이 그대로인 수정 정보를 입력하면, 해시태그는 건드리지 않고 제목만 수정")
+    @Test
+    void givenUnchangedContent_whenUpdatingArticle_thenUpdatesTitleOnly() {
+        Article article = createArticle();
+        ArticleDto dto = createArticleDto("new title", article.getContent(), "#java");
+        given(articleRepository.getReferenceById(dto.id())).willReturn(article);
+        given(userAccountRepository.getReferenceById(dto.userAccountDto().userId())).willReturn(dto.userAccountDto().toEntity());
+
+        sut.updateArticle(dto.id(), dto);
+
+        assertThat(article)
+                .hasFieldOrPropertyWithValue("title", dto.title())
+                .hasFieldOrPropertyWithValue("content", article.getContent());
+        then(hashtagService).shouldHaveNoInteractions();
+        then(articleRepository).should(never()).flush();
+    }
+
     @DisplayName("없는 게시글의 수정 정보를 입력하면, 경고 로그를 찍고 아무것도 하지 않는다.")
     @Test
     void givenNonexistentArticleInfo_whenUpdatingArticle_thenLogsWarningAndDoesNothing() {
@@ -214,6 +325,11 @@ class ArticleServiceTest {
         );
     }
 
+    private Hashtag createHashtag(long id, String hashtagName) {
+        Hashtag hashtag = Hashtag.of(hashtagName);
+        ReflectionTestUtils.setField(hashtag, "id", id);
+        return hashtag;
+    }
     private Article createArticle() {
         Article article = Article.of(
                 createUserAccount(),
@@ -225,6 +341,15 @@ class ArticleServiceTest {
         return article;
     }
 
+    private ArchivedArticle createArchivedArticle() {
+        ArchivedArticle archivedArticle = BeanUtils.instantiateClass(ArchivedArticle.class);
+        ReflectionTestUtils.setField(archivedArticle, "id", 1L);
+        ReflectionTestUtils.setField(archivedArticle, "userAccount", createUserAccount());
+        ReflectionTestUtils.setField(archivedArticle, "title", "old title");
+        ReflectionTestUtils.setField(archivedArticle, "content", "old content");
+        return archivedArticle;
+    }
+
     private ArticleDto createArticleDto() {
         return createArticleDto("title", "content", "#java");
     }
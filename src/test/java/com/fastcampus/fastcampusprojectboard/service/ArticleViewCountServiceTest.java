@@ -0,0 +1,120 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.ArticleJdbcRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 조회수")
+@ExtendWith(MockitoExtension.class)
+class ArticleViewCountServiceTest {
+
+    @InjectMocks private ArticleViewCountService sut;
+    @Mock private ArticleJdbcRepository articleJdbcRepository;
+    @Captor private ArgumentCaptor<Map<Long, Long>> deltasCaptor;
+
+    @DisplayName("조회수를 모았다가 반영하면, 게시글별 증가분을 ID 순서로 한 번에 더한다.")
+    @Test
+    void givenPendingViews_whenFlushing_thenAddsAggregatedDeltasInIdOrder() {
+        // Given
+        sut.increment(3L);
+        sut.increment(1L);
+        sut.increment(3L);
+        sut.increment(3L);
+
+        // When
+        sut.flush();
+
+        // Then
+        then(articleJdbcRepository).should().addViewCounts(deltasCaptor.capture());
+        assertThat(deltasCaptor.getValue()).containsExactly(Map.entry(1L, 1L), Map.entry(3L, 3L));
+        assertThat(sut.pendingViews(3L)).isZero();
+    }
+
+    @DisplayName("새 조회가 없으면, DB 를 건드리지 않는다.")
+    @Test
+    void givenNoPendingViews_whenFlushing_thenDoesNothing() {
+        // Given
+        sut.increment(1L);
+        sut.flush();
+
+        // When
+        sut.flush();
+
+        // Then
+        then(articleJdbcRepository).should(times(1)).addViewCounts(any());
+    }
+
+    @DisplayName("DB 반영에 실패하면, 증가분을 되돌려 놓고 다음 주기에 다시 더한다.")
+    @Test
+    void givenDatabaseFailure_whenFlushing_thenKeepsDeltasForNextFlush() {
+        // Given
+        sut.increment(1L);
+        sut.increment(1L);
+        willThrow(new QueryTimeoutException("timeout")).willDoNothing().given(articleJdbcRepository).addViewCounts(any());
+
+        // When
+        sut.flush();
+        long pendingAfterFailure = sut.pendingViews(1L);
+        sut.flush();
+
+        // Then
+        assertThat(pendingAfterFailure).isEqualTo(2L);
+        then(articleJdbcRepository).should(times(2)).addViewCounts(deltasCaptor.capture());
+        assertThat(deltasCaptor.getAllValues().get(1)).containsExactly(Map.entry(1L, 2L));
+    }
+
+    @DisplayName("반영하는 동안 조회가 계속 들어와도, 잃어버리는 조회수가 없다.")
+    @Test
+    void givenConcurrentViews_whenFlushingRepeatedly_thenKeepsEveryView() throws Exception {
+        // Given
+        int threadCount = 4;
+        int viewsPerThread = 20_000;
+        AtomicLong flushed = new AtomicLong();
+        willAnswer(invocation -> {
+            invocation.<Map<Long, Long>>getArgument(0).values().forEach(flushed::addAndGet);
+            return null;
+        }).given(articleJdbcRepository).addViewCounts(any());
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        List<Future<?>> viewers = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            viewers.add(executor.submit(() -> {
+                for (int view = 0; view < viewsPerThread; view++) {
+                    sut.increment(view % 3); // 조회가 없는 주기가 생기도록 게시글 0, 1, 2 에 나눠 센다
+                }
+            }));
+        }
+        while (viewers.stream().anyMatch(viewer -> !viewer.isDone())) {
+            sut.flush();
+        }
+        for (Future<?> viewer : viewers) {
+            viewer.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        sut.flush();
+
+        // Then
+        assertThat(flushed.get()).isEqualTo((long) threadCount * viewsPerThread);
+    }
+}
@@ -0,0 +1,106 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+import com.fastcampus.fastcampusprojectboard.repository.HashtagRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.HashtagJdbcRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("비즈니스 로직 - 해시태그 동시 저장")
+@Import({HashtagService.class, HashtagJdbcRepository.class, OutboxJdbcRepository.class, HashtagServiceConcurrencyTest.TestJpaConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 스레드마다 각자 커밋해야 경쟁 상황이 재현된다
+@DataJpaTest
+class HashtagServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final Set<String> HASHTAG_NAMES = Set.of("race_shared", "race_even", "race_odd");
+
+    private final HashtagService sut;
+    private final HashtagRepository hashtagRepository;
+
+    HashtagServiceConcurrencyTest(
+            @Autowired HashtagService sut,
+            @Autowired HashtagRepository hashtagRepository
+    ) {
+        this.sut = sut;
+        this.hashtagRepository = hashtagRepository;
+    }
+
+    @AfterEach
+    void tearDown() {
+        hashtagRepository.deleteAll(hashtagRepository.findByHashtagNameIn(HASHTAG_NAMES));
+    }
+
+    @DisplayName("같은 새 해시태그를 여러 스레드가 동시에 저장하면, 실패 없이 해시태그가 한 번만 생성된다.")
+    @Test
+    void givenOverlappingNewHashtags_whenResolvingConcurrently_thenCreatesEachHashtagOnce() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<Set<Hashtag>>> futures = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Set<String> hashtagNames = Set.of("race_shared", i % 2 == 0 ? "race_even" : "race_odd");
+            Callable<Set<Hashtag>> task = () -> {
+                startGate.await();
+                return sut.resolveHashtags(hashtagNames);
+            };
+            futures.add(executor.submit(task));
+        }
+
+        // When
+        startGate.countDown();
+        List<Set<Hashtag>> results = new ArrayList<>();
+        for (Future<Set<Hashtag>> future : futures) {
+            results.add(future.get(30, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // Then
+        List<Hashtag> savedHashtags = hashtagRepository.findByHashtagNameIn(HASHTAG_NAMES);
+        assertThat(savedHashtags)
+                .extracting("hashtagName", String.class)
+                .containsExactlyInAnyOrderElementsOf(HASHTAG_NAMES);
+
+        Map<String, Long> savedIds = savedHashtags.stream()
+                .collect(Collectors.toMap(Hashtag::getHashtagName, Hashtag::getId));
+        results.forEach(hashtags -> {
+            assertThat(hashtags).hasSize(2);
+            hashtags.forEach(hashtag -> assertThat(hashtag.getId()).isEqualTo(savedIds.get(hashtag.getHashtagName())));
+        });
+    }
+
+    @EnableJpaAuditing
+    @TestConfiguration
+    static class TestJpaConfig {
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of("uno");
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.fastcampus.fastcampusprojectboard.service;
 
 import com.fastcampus.fastcampusprojectboard.domain.Hashtag;
+import com.fastcampus.fastcampusprojectboard.domain.constant.AggregateType;
 import com.fastcampus.fastcampusprojectboard.repository.HashtagRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.HashtagJdbcRepository;
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.OutboxJdbcRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +14,7 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Set;
@@ -18,6 +22,7 @@ import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 
@@ -28,6 +33,8 @@ class HashtagServiceTest {
     @InjectMocks private HashtagService sut;
 
     @Mock private HashtagRepository hashtagRepository;
+    @Mock private HashtagJdbcRepository hashtagJdbcRepository;
+    @Mock private OutboxJdbcRepository outboxJdbcRepository;
 
     @DisplayName("본문을 파싱하면, 해시태그 이름들을 중복 없이 반환")
     @ParameterizedTest(name = "[{index}] \"{0}\" => {1}")
@@ -100,5 +107,43 @@ class HashtagServiceTest {
         then(hashtagRepository).should().findByHashtagNameIn(hashtagNames);
     }
 
+    @DisplayName("해시태그 이름들을 입력하면, 없는 해시태그만 한 번에 upsert 하고 전체 해시태그를 반환한다.")
+    @Test
+    void givenHashtagNames_whenResolvingHashtags_thenUpsertsOnlyMissingNames() {
+        // Given
+        Set<String> hashtagNames = Set.of("java", "spring");
+        Hashtag spring = Hashtag.of("spring");
+        ReflectionTestUtils.setField(spring, "id", 2L);
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(Hashtag.of("java")));
+        given(hashtagJdbcRepository.insertHashtagNamesIfAbsent(Set.of("spring"))).willReturn(Set.of("spring"));
+        given(hashtagRepository.findAllForShareByHashtagNameIn(Set.of("spring"))).willReturn(List.of(spring));
+
+        // When
+        Set<Hashtag> hashtags = sut.resolveHashtags(hashtagNames);
+
+        // Then
+        assertThat(hashtags)
+                .extracting("hashtagName", String.class)
+                .containsExactlyInAnyOrder("java", "spring");
+        then(hashtagJdbcRepository).should().insertHashtagNamesIfAbsent(Set.of("spring"));
+        then(hashtagRepository).should().findAllForShareByHashtagNameIn(Set.of("spring"));
+        then(outboxJdbcRepository).should().insertEvents(argThat(events -> events.size() == 1
+                && events.iterator().next().aggregateType() == AggregateType.HASHTAG
+                && events.iterator().next().aggregateId() == 2L));
+    }
 
-}
\ No newline at end of file
+    @DisplayName("해시태그가 모두 저장돼 있으면, upsert 하지 않는다.")
+    @Test
+    void givenExistingHashtagNames_whenResolvingHashtags_thenSkipsUpsert() {
+        // Given
+        Set<String> hashtagNames = Set.of("java");
+        given(hashtagRepository.findByHashtagNameIn(hashtagNames)).willReturn(List.of(Hashtag.of("java")));
+
+        // When
+        Set<Hashtag> hashtags = sut.resolveHashtags(hashtagNames);
+
+        // Then
+        assertThat(hashtags).hasSize(1);
+        then(hashtagJdbcRepository).shouldHaveNoInteractions();
+    }
+}
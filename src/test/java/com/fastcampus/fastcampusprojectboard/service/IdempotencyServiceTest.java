@@ -0,0 +1,97 @@
+package com.fastcampus.fastcampusprojectboard.service;
+
+import com.fastcampus.fastcampusprojectboard.repository.jdbc.IdempotencyJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+@DisplayName("비즈니스 로직 - 멱등 키")
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    private IdempotencyService sut;
+
+    @Mock private IdempotencyJdbcRepository idempotencyJdbcRepository;
+
+    @BeforeEach
+    void setUp() {
+        sut = new IdempotencyService(idempotencyJdbcRepository, new IdempotencyProperties(Duration.ofHours(24)));
+    }
+
+    @DisplayName("처음 보는 키면, 요청을 처리하고 결과를 남긴다.")
+    @Test
+    void givenNewKey_whenExecuting_thenRunsActionAndSavesResponse() {
+        // Given
+        AtomicInteger saved = new AtomicInteger();
+        given(idempotencyJdbcRepository.claim(eq("haco"), eq("key-1"), any(LocalDateTime.class))).willReturn(true);
+
+        // When
+        String response = sut.execute("haco", "key-1", () -> {
+            saved.incrementAndGet();
+            return "redirect:/articles";
+        });
+
+        // Then
+        assertThat(response).isEqualTo("redirect:/articles");
+        assertThat(saved).hasValue(1);
+        then(idempotencyJdbcRepository).should().saveResponse("haco", "key-1", "redirect:/articles");
+    }
+
+    @DisplayName("이미 처리한 키로 다시 요청하면, 저장하지 않고 처음 결과를 돌려준다.")
+    @Test
+    void givenProcessedKey_whenExecuting_thenReturnsOriginalResponseWithoutRunningAction() {
+        // Given
+        AtomicInteger saved = new AtomicInteger();
+        given(idempotencyJdbcRepository.claim(eq("haco"), eq("key-1"), any(LocalDateTime.class))).willReturn(false);
+        given(idempotencyJdbcRepository.findResponse("haco", "key-1")).willReturn(Optional.of("redirect:/articles/1"));
+
+        // When
+        String response = sut.execute("haco", "key-1", () -> {
+            saved.incrementAndGet();
+            return "redirect:/articles/1";
+        });
+
+        // Then
+        assertThat(response).isEqualTo("redirect:/articles/1");
+        assertThat(saved).hasValue(0);
+        then(idempotencyJdbcRepository).should(never()).saveResponse(any(), any(), any());
+    }
+
+    @DisplayName("키 없이 요청하면, 기록 없이 그냥 처리한다.")
+    @Test
+    void givenNoKey_whenExecuting_thenRunsActionWithoutRecording() {
+        // Given
+
+        // When
+        String response = sut.execute("haco", null, () -> "redirect:/articles");
+
+        // Then
+        assertThat(response).isEqualTo("redirect:/articles");
+        then(idempotencyJdbcRepository).shouldHaveNoInteractions();
+    }
+
+    @DisplayName("키가 너무 길면, 예외를 던진다.")
+    @Test
+    void givenTooLongKey_whenExecuting_thenThrowsException() {
+        // Given
+        String key = "k".repeat(IdempotencyService.MAX_KEY_LENGTH + 1);
+
+        // When & Then
+        assertThatThrownBy(() -> sut.execute("haco", key, () -> "redirect:/articles"))
+                .isInstanceOf(IllegalArgumentException.class);
+        then(idempotencyJdbcRepository).shouldHaveNoInteractions();
+    }
+}
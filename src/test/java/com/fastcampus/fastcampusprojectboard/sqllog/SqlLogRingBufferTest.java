@@ -0,0 +1,121 @@
+package com.fastcampus.fastcampusprojectboard.sqllog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SQL 로그 - 링 버퍼")
+class SqlLogRingBufferTest {
+
+    @DisplayName("버퍼가 차면, 기다리지 않고 버린 뒤 개수를 센다.")
+    @Test
+    void givenFullBuffer_whenOffering_thenDropsAndCounts() {
+        // Given
+        SqlLogRingBuffer sut = new SqlLogRingBuffer(3);
+        IntStream.range(0, sut.capacity()).forEach(i -> sut.offer(entry("select " + i)));
+
+        // When
+        boolean accepted = sut.offer(entry("select overflow"));
+
+        // Then
+        assertThat(sut.capacity()).isEqualTo(4);
+        assertThat(accepted).isFalse();
+        assertThat(sut.dropped()).isEqualTo(1);
+    }
+
+    @DisplayName("꺼내면, 넣은 순서대로 나오고 빈자리에 다시 넣을 수 있다.")
+    @Test
+    void givenEntries_whenDraining_thenReturnsInOrderAndFreesSlots() {
+        // Given
+        SqlLogRingBuffer sut = new SqlLogRingBuffer(4);
+        IntStream.range(0, 4).forEach(i -> sut.offer(entry("select " + i)));
+        List<String> drained = new ArrayList<>();
+
+        // When
+        sut.drain(entry -> drained.add(entry.sql()));
+        boolean accepted = sut.offer(entry("select 4"));
+        sut.drain(entry -> drained.add(entry.sql()));
+
+        // Then
+        assertThat(accepted).isTrue();
+        assertThat(drained).containsExactly("select 0", "select 1", "select 2", "select 3", "select 4");
+    }
+
+    @DisplayName("여러 스레드가 동시에 넣어도, 받아들인 기록과 버린 기록의 합이 넣은 수와 같다.")
+    @Test
+    void givenConcurrentProducers_whenOffering_thenNoEntryIsLostOrDuplicated() throws Exception {
+        // Given
+        SqlLogRingBuffer sut = new SqlLogRingBuffer(1024);
+        int producers = 8;
+        int perProducer = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<SqlLogEntry> drained = new ArrayList<>();
+
+        // When
+        IntStream.range(0, producers).forEach(p -> executor.execute(() -> {
+            try {
+                start.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            IntStream.range(0, perProducer).forEach(i -> sut.offer(entry(p + ":" + i)));
+        }));
+        start.countDown();
+        executor.shutdown();
+        while (!executor.awaitTermination(10, TimeUnit.MILLISECONDS)) {
+            sut.drain(drained::add);
+        }
+        sut.drain(drained::add);
+
+        // Then
+        assertThat(drained).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(drained.size() + sut.dropped()).isEqualTo((long) producers * perProducer);
+    }
+
+    @DisplayName("꺼낸 기록을 쓰는 동안에도, 다른 스레드가 새 기록을 꺼낼 수 있다.")
+    @Test
+    void givenSlowConsumer_whenDrainingConcurrently_thenDoesNotHoldLockWhileConsuming() throws Exception {
+        // Given
+        SqlLogRingBuffer sut = new SqlLogRingBuffer(4);
+        sut.offer(entry("select 0"));
+        CountDownLatch consuming = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        executor.execute(() -> sut.drain(entry -> {
+            consuming.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        consuming.await(5, TimeUnit.SECONDS);
+        sut.offer(entry("select 1"));
+        List<String> drained = new ArrayList<>();
+
+        // When
+        Future<Integer> count = executor.submit(() -> sut.drain(entry -> drained.add(entry.sql())));
+
+        // Then
+        assertThat(count.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(drained).containsExactly("select 1");
+        release.countDown();
+        executor.shutdown();
+    }
+
+    private static SqlLogEntry entry(String sql) {
+        return new SqlLogEntry(Instant.now(), sql, 0, 1, 1, true, false);
+    }
+}
@@ -0,0 +1,35 @@
+package com.fastcampus.fastcampusprojectboard.sqllog;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@DisplayName("SQL 로그 - SQL 정규화")
+class SqlNormalizerTest {
+
+    @DisplayName("값만 다른 SQL 을 정규화하면, 같은 문장이 된다.")
+    @ParameterizedTest(name = "[{index}] {0} => {1}")
+    @MethodSource
+    void givenSql_whenNormalizing_thenReturnsNormalizedSql(String sql, String expected) {
+
+        String actual = SqlNormalizer.normalize(sql);
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> givenSql_whenNormalizing_thenReturnsNormalizedSql() {
+        return Stream.of(
+                arguments("select a1_0.id from article a1_0\n    where a1_0.id=?", "select a1_0.id from article a1_0 where a1_0.id=?"),
+                arguments("select * from hashtag where hashtag_name = 'it''s' and id > 10", "select * from hashtag where hashtag_name = ? and id > ?"),
+                arguments("select * from hashtag where id in (?, ?, ?)", "select * from hashtag where id in (?, ...)"),
+                arguments("INSERT INTO hashtag (a, b) VALUES (?, ?), (?, ?), (?, ?) ON CONFLICT (hashtag_name) DO NOTHING",
+                        "INSERT INTO hashtag (a, b) VALUES (?, ...), ... ON CONFLICT (hashtag_name) DO NOTHING")
+        );
+    }
+}
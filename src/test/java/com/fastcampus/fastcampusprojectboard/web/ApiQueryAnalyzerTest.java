@@ -0,0 +1,49 @@
+package com.fastcampus.fastcampusprojectboard.web;
+
+import com.fastcampus.fastcampusprojectboard.web.ApiQueryAnalyzer.Verdict;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.api.DisplayName;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+@DisplayName("API - 조회 비용 분석")
+class ApiQueryAnalyzerTest {
+
+    private final ApiQueryAnalyzer sut = new ApiQueryAnalyzer(10_000, 20, 100);
+
+    @DisplayName("조회 파라미터를 분석하면, 인덱스 사용 여부에 따라 허용/제한/거절한다.")
+    @ParameterizedTest(name = "[{index}] {0} {1} => {2}")
+    @MethodSource
+    void givenQueryParameters_whenAnalyzing_thenReturnsVerdict(String resource, Map<String, String[]> parameters, Verdict expected) {
+
+        ApiQueryAnalyzer.Result result = sut.analyze(resource, parameters);
+
+        assertThat(result.verdict()).isEqualTo(expected);
+    }
+
+    static Stream<Arguments> givenQueryParameters_whenAnalyzing_thenReturnsVerdict() {
+        return Stream.of(
+                arguments("articles", Map.of(), Verdict.ALLOW),
+                arguments("articles", Map.of("title", new String[]{"spring"}), Verdict.ALLOW),
+                arguments("articles", Map.of("createdAt", new String[]{"2024-01-01T00:00:00", "2024-02-01T00:00:00"}), Verdict.ALLOW),
+                arguments("articles", Map.of("sort", new String[]{"createdAt,desc"}), Verdict.ALLOW),
+                arguments("articles", Map.of("content", new String[]{"spring"}), Verdict.REJECT),
+                arguments("articles", Map.of("content", new String[]{"spring"}, "createdBy", new String[]{"uno"}), Verdict.THROTTLE),
+                arguments("articles", Map.of("content", new String[]{""}), Verdict.ALLOW),
+                arguments("articles", Map.of("sort", new String[]{"content,asc"}), Verdict.REJECT),
+                arguments("articles", Map.of("page", new String[]{"1000"}, "size", new String[]{"100"}), Verdict.REJECT),
+                arguments("articles", Map.of("page", new String[]{"100"}, "size", new String[]{"100000"}), Verdict.ALLOW), // size 는 100 으로 잘린다
+                arguments("articles", Map.of("page", new String[]{"501"}, "size", new String[]{"100000"}), Verdict.REJECT),
+                arguments("articles", Map.of("page", new String[]{"500"}, "size", new String[]{"0"}), Verdict.ALLOW), // 기본 크기 20
+                arguments("articles", Map.of("page", new String[]{"501"}), Verdict.REJECT),
+                arguments("articleComments", Map.of("content", new String[]{"good"}), Verdict.ALLOW),
+                arguments("userAccounts", Map.of("sort", new String[]{"memo"}), Verdict.ALLOW)
+        );
+    }
+}
@@ -0,0 +1,96 @@
+package com.fastcampus.fastcampusprojectboard.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("뷰 - 청크 단위 페이지")
+class ChunkedPageTest {
+
+    @DisplayName("페이지를 순회하면, 청크 크기만큼 나눠 읽고 청크마다 먼저 flush 한다.")
+    @Test
+    void givenPageLargerThanChunk_whenIterating_thenLoadsInChunks() {
+        // Given
+        List<String> loads = new ArrayList<>();
+        AtomicInteger flushes = new AtomicInteger();
+        ChunkedPage<Long> sut = new ChunkedPage<>(
+                PageRequest.of(2, 10),
+                4,
+                (offset, limit) -> {
+                    loads.add(offset + ":" + limit);
+                    return LongStream.range(offset, offset + limit).boxed().toList();
+                },
+                () -> 1_000L,
+                flushes::incrementAndGet
+        );
+
+        // When
+        List<Long> rows = new ArrayList<>();
+        sut.forEach(rows::add);
+
+        // Then
+        assertThat(rows).containsExactlyElementsOf(LongStream.range(20, 30).boxed().toList());
+        assertThat(loads).containsExactly("20:4", "24:4", "28:2");
+        assertThat(flushes).hasValue(3);
+    }
+
+    @DisplayName("마지막 페이지에서 청크가 덜 차면, 더 읽지 않는다.")
+    @Test
+    void givenShortChunk_whenIterating_thenStopsLoading() {
+        // Given
+        AtomicInteger loadCount = new AtomicInteger();
+        ChunkedPage<Long> sut = new ChunkedPage<>(
+                PageRequest.of(0, 10),
+                4,
+                (offset, limit) -> {
+                    loadCount.incrementAndGet();
+                    return LongStream.range(offset, Math.min(offset + limit, 6)).boxed().toList();
+                },
+                () -> 6L,
+                () -> {}
+        );
+
+        // When
+        List<Long> rows = new ArrayList<>();
+        sut.forEach(rows::add);
+
+        // Then
+        assertThat(rows).containsExactly(0L, 1L, 2L, 3L, 4L, 5L);
+        assertThat(loadCount).hasValue(2);
+    }
+
+    @DisplayName("전체 페이지 수를 읽을 때만, count 를 한 번 실행한다.")
+    @Test
+    void givenChunkedPage_whenReadingTotalPages_thenCountsLazilyOnce() {
+        // Given
+        AtomicInteger countCalls = new AtomicInteger();
+        ChunkedPage<Long> sut = new ChunkedPage<>(
+                PageRequest.of(0, 10),
+                4,
+                (offset, limit) -> List.of(),
+                () -> {
+                    countCalls.incrementAndGet();
+                    return 25L;
+                },
+                () -> {}
+        );
+        sut.forEach(row -> {});
+        assertThat(countCalls).hasValue(0);
+
+        // When
+        int totalPages = sut.getTotalPages();
+        long totalElements = sut.getTotalElements();
+
+        // Then
+        assertThat(totalPages).isEqualTo(3);
+        assertThat(totalElements).isEqualTo(25L);
+        assertThat(countCalls).hasValue(1);
+    }
+}
@@ -0,0 +1,147 @@
+package com.fastcampus.fastcampusprojectboard.web;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.thymeleaf.ThymeleafProperties;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.cache.ExpressionCacheKey;
+import org.thymeleaf.cache.ICache;
+import org.thymeleaf.cache.ICacheEntryValidityChecker;
+import org.thymeleaf.cache.ICacheManager;
+import org.thymeleaf.cache.StandardCacheManager;
+import org.thymeleaf.cache.TemplateCacheKey;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.engine.TemplateModel;
+import org.thymeleaf.exceptions.TemplateProcessingException;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("템플릿 캐시 미리 채우기")
+class TemplateCacheWarmerTest {
+
+    private TemplateEngine templateEngine;
+    private RecordingTemplateCache templateCache;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setUseDecoupledLogic(true);
+        templateResolver.setCacheable(true);
+
+        templateCache = new RecordingTemplateCache(new StandardCacheManager().getTemplateCache());
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setCacheManager(new RecordingCacheManager(templateCache));
+    }
+
+    @DisplayName("기동할 때 화면 템플릿을 파싱해 두면, 첫 렌더링이 캐시에서 템플릿을 꺼낸다.")
+    @Test
+    void givenWarmedCache_whenRenderingViews_thenHitsTemplateCache() {
+        // Given
+        new TemplateCacheWarmer(templateEngine, new ThymeleafProperties()).warmUp();
+        templateCache.hits.clear();
+
+        // When
+        TemplateCacheWarmer.VIEWS.forEach(this::render);
+
+        // Then
+        assertThat(templateCache.hits).containsExactlyElementsOf(TemplateCacheWarmer.VIEWS);
+    }
+
+    @DisplayName("템플릿 캐시를 끈 설정이면, 아무것도 파싱하지 않는다.")
+    @Test
+    void givenTemplateCacheDisabled_whenWarmingUp_thenDoesNothing() {
+        // Given
+        ThymeleafProperties thymeleafProperties = new ThymeleafProperties();
+        thymeleafProperties.setCache(false);
+
+        // When
+        new TemplateCacheWarmer(templateEngine, thymeleafProperties).warmUp();
+
+        // Then
+        assertThat(templateCache.size()).isZero();
+    }
+
+    // 요청 없이 그리면 @{/...} 링크에서 멈추지만, 캐시 조회는 그 전에 끝난다
+    private void render(String view) {
+        try {
+            templateEngine.process(view, new Context(), Writer.nullWriter());
+        } catch (TemplateProcessingException ignored) {
+        }
+    }
+
+    private record RecordingCacheManager(ICache<TemplateCacheKey, TemplateModel> templateCache) implements ICacheManager {
+
+        @Override public ICache<TemplateCacheKey, TemplateModel> getTemplateCache() { return templateCache; }
+        @Override public ICache<ExpressionCacheKey, Object> getExpressionCache() { return null; }
+        @Override public <K, V> ICache<K, V> getSpecificCache(String name) { return null; }
+        @Override public List<String> getAllSpecificCacheNames() { return List.of(); }
+        @Override public void clearAllCaches() { templateCache.clear(); }
+    }
+
+    private static class RecordingTemplateCache implements ICache<TemplateCacheKey, TemplateModel> {
+
+        private final ICache<TemplateCacheKey, TemplateModel> delegate;
+        private final List<String> hits = new ArrayList<>();
+
+        RecordingTemplateCache(ICache<TemplateCacheKey, TemplateModel> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void put(TemplateCacheKey key, TemplateModel value) {
+            delegate.put(key, value);
+        }
+
+        @Override
+        public TemplateModel get(TemplateCacheKey key) {
+            return record(key, delegate.get(key));
+        }
+
+        @Override
+        public TemplateModel get(TemplateCacheKey key, ICacheEntryValidityChecker<? super TemplateCacheKey, ? super TemplateModel> validityChecker) {
+            return record(key, delegate.get(key, validityChecker));
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+
+        @Override
+        public void clearKey(TemplateCacheKey key) {
+            delegate.clearKey(key);
+        }
+
+        @Override
+        public Set<TemplateCacheKey> keySet() {
+            return delegate.keySet();
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        // 화면 템플릿(소유 템플릿 없음)만 기록한다
+        private TemplateModel record(TemplateCacheKey key, TemplateModel value) {
+            if (value != null && key.getOwnerTemplate() == null) {
+                hits.add(key.getTemplate());
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.fastcampus.fastcampusprojectboard.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 실행 모드. {@code ./gradlew bootRun -PvirtualThreads} 처럼 JDK 21 툴체인으로 빌드했을 때만 포함되고,
+ * {@code virtual-threads} 프로파일을 켜야 동작한다.
+ * <p>
+ * 톰캣 요청 처리, {@code @Async}, {@code @Scheduled} 작업을 모두 가상 스레드에서 돌린다.
+ * 동시 요청 수가 더 이상 스레드 수로 제한되지 않으므로, DB 동시성은 Hikari 풀 크기로 제한한다. (application-virtual-threads.yaml)
+ */
+@Slf4j
+@Profile("virtual-threads")
+@Configuration
+public class VirtualThreadConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService virtualThreadRequestExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("tomcat-vt-", 0).factory());
+    }
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer(ExecutorService virtualThreadRequestExecutor) {
+        log.info("톰캣 요청을 가상 스레드에서 처리합니다.");
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreadRequestExecutor);
+    }
+
+    // @Async 기본 실행기. 이름을 맞춰서 자동 설정의 플랫폼 스레드 풀을 대체한다
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            "taskExecutor"
+    })
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("async-vt-", 0).factory()));
+    }
+
+    // 스케줄 판단은 스케줄러 스레드 하나가 하고, 실제 작업도 가상 스레드 팩토리로 만든 스레드에서 돈다
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadFactory(Thread.ofVirtual().name("scheduling-vt-", 0).factory());
+        scheduler.setPoolSize(Runtime.getRuntime().availableProcessors());
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        return scheduler;
+    }
+}